@@ -0,0 +1,81 @@
+package io.github.victoriasemkina.validated.benchmark;
+
+import io.github.victoriasemkina.validated.core.ValidatedBuilder;
+import io.github.victoriasemkina.validated.testmodel.common.ComplexModel;
+import io.github.victoriasemkina.validated.testmodel.primitive.FinancialModel;
+import io.github.victoriasemkina.validated.testmodel.temporal.TemporalModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Полный цикл {@code buildValid()}: генерация, правила и валидация одного объекта.
+ *
+ * <p>{@code *BuildValid} измеряют одиночный вызов (новый контекст на объект),
+ * {@code *Iterator} — поток объектов одного билдера, как в {@code buildMany}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BuildValidBenchmark {
+
+    private ValidatedBuilder<ComplexModel> complexBuilder;
+    private ValidatedBuilder<FinancialModel> financialBuilder;
+    private ValidatedBuilder<TemporalModel> temporalBuilder;
+    private Iterator<ComplexModel> complexIterator;
+    private Iterator<FinancialModel> financialIterator;
+    private Iterator<TemporalModel> temporalIterator;
+
+    @Setup
+    public void setUp() {
+        complexBuilder = ValidatedBuilder.forClass(ComplexModel.class).withSeed(42L);
+        financialBuilder = ValidatedBuilder.forClass(FinancialModel.class).withSeed(42L);
+        temporalBuilder = ValidatedBuilder.forClass(TemporalModel.class).withSeed(42L);
+        complexIterator = complexBuilder.iterator();
+        financialIterator = financialBuilder.iterator();
+        temporalIterator = temporalBuilder.iterator();
+    }
+
+    @Benchmark
+    public ComplexModel complexBuildValid() {
+        return complexBuilder.buildValid();
+    }
+
+    @Benchmark
+    public FinancialModel financialBuildValid() {
+        return financialBuilder.buildValid();
+    }
+
+    @Benchmark
+    public TemporalModel temporalBuildValid() {
+        return temporalBuilder.buildValid();
+    }
+
+    @Benchmark
+    public ComplexModel complexIterator() {
+        return complexIterator.next();
+    }
+
+    @Benchmark
+    public FinancialModel financialIterator() {
+        return financialIterator.next();
+    }
+
+    @Benchmark
+    public TemporalModel temporalIterator() {
+        return temporalIterator.next();
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.victoriasemkina.validated.benchmark;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.generator.primitive.BigDecimalGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.IntGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.StringGenerator;
+import io.github.victoriasemkina.validated.generator.semantic.EmailGenerator;
+import io.github.victoriasemkina.validated.generator.temporal.LocalDateGenerator;
+import io.github.victoriasemkina.validated.generator.temporal.LocalDateTimeGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.testmodel.common.ComplexModel;
+import io.github.victoriasemkina.validated.testmodel.primitive.FinancialModel;
+import io.github.victoriasemkina.validated.testmodel.temporal.TemporalModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Каждый {@link io.github.victoriasemkina.validated.core.ValueGenerator#generate} отдельно,
+ * на описаниях полей тестовых моделей.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class GeneratorBenchmark {
+
+    private final StringGenerator stringGenerator = new StringGenerator();
+    private final EmailGenerator emailGenerator = new EmailGenerator();
+    private final BigDecimalGenerator bigDecimalGenerator = new BigDecimalGenerator();
+    private final LocalDateGenerator localDateGenerator = new LocalDateGenerator();
+    private final LocalDateTimeGenerator localDateTimeGenerator = new LocalDateTimeGenerator();
+    private final IntGenerator intGenerator = new IntGenerator();
+
+    private GenerationContext context;
+    private FieldDescriptor sizedString;
+    private FieldDescriptor email;
+    private FieldDescriptor amount;
+    private FieldDescriptor pastDate;
+    private FieldDescriptor futureDateTime;
+    private FieldDescriptor primitiveInt;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        context = GenerationContext.seeded(42L);
+        sizedString = FieldDescriptor.from(ComplexModel.class.getDeclaredField("description"));
+        email = FieldDescriptor.from(ComplexModel.class.getDeclaredField("email"));
+        amount = FieldDescriptor.from(FinancialModel.class.getDeclaredField("amount"));
+        pastDate = FieldDescriptor.from(TemporalModel.class.getDeclaredField("birthDate"));
+        futureDateTime = FieldDescriptor.from(TemporalModel.class.getDeclaredField("appointmentTime"));
+        primitiveInt = FieldDescriptor.from(ComplexModel.class.getDeclaredField("count"));
+    }
+
+    @Benchmark
+    public Object string() {
+        return stringGenerator.generate(sizedString, context);
+    }
+
+    @Benchmark
+    public Object email() {
+        return emailGenerator.generate(email, context);
+    }
+
+    @Benchmark
+    public Object bigDecimal() {
+        return bigDecimalGenerator.generate(amount, context);
+    }
+
+    @Benchmark
+    public Object localDate() {
+        return localDateGenerator.generate(pastDate, context);
+    }
+
+    @Benchmark
+    public Object localDateTime() {
+        return localDateTimeGenerator.generate(futureDateTime, context);
+    }
+
+    @Benchmark
+    public Object primitiveInt() {
+        return intGenerator.generate(primitiveInt, context);
+    }
+
+    @Benchmark
+    public int primitiveIntUnboxed() {
+        return intGenerator.generateInt(primitiveInt, context);
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.victoriasemkina.validated.benchmark;
+
+import io.github.victoriasemkina.validated.core.ValidatedBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сборка объекта из трёх полей от начала до конца: вручную через рефлексию
+ * ({@code getDeclaredField} / {@code Field.set} / {@code Constructor.newInstance})
+ * против {@link ValidatedBuilder#iterator()}.
+ *
+ * <p>Это сквозной бенчмарк билдера, а не сравнение {@code MethodHandle} с
+ * {@code Field.set}: кроме создания объекта и записи тех же трёх полей объект
+ * билдера проходит цикл генерации (поиск переопределений, правила-кандидаты,
+ * проверки наблюдателя). Строки заданы переопределениями, валидация
+ * выборкой {@link ValidatedBuilder#validateEvery} оставлена только для первого
+ * объекта итератора, поэтому разница с рефлексивной сборкой — накладные расходы
+ * цикла генерации на объект.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ObjectAssemblyBenchmark {
+
+    public static class Model {
+        private String name;
+        private String email;
+        private int count;
+
+        public Model() {}
+    }
+
+    private Iterator<Model> overridden;
+    private Iterator<Model> generated;
+    private Field nameField;
+    private Field emailField;
+    private Field countField;
+    private Constructor<Model> constructor;
+    private int counter;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Все три поля из переопределений, примитив передаётся упакованным
+        overridden = builder().override("count", 7).iterator();
+        // Примитив от генератора int записывается без упаковки
+        generated = builder().iterator();
+
+        nameField = Model.class.getDeclaredField("name");
+        nameField.setAccessible(true);
+        emailField = Model.class.getDeclaredField("email");
+        emailField.setAccessible(true);
+        countField = Model.class.getDeclaredField("count");
+        countField.setAccessible(true);
+        constructor = Model.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+    }
+
+    private static ValidatedBuilder<Model> builder() {
+        return ValidatedBuilder.forClass(Model.class)
+                .withSeed(42L)
+                .validateEvery(Integer.MAX_VALUE)
+                .override("name", "Anna")
+                .override("email", "anna@company.com");
+    }
+
+    /**
+     * Поиск полей и конструктора на каждый объект.
+     */
+    @Benchmark
+    public Model reflectiveLookupPerObject() throws Exception {
+        Model model = Model.class.getDeclaredConstructor().newInstance();
+        Field name = Model.class.getDeclaredField("name");
+        name.setAccessible(true);
+        name.set(model, "Anna");
+        Field email = Model.class.getDeclaredField("email");
+        email.setAccessible(true);
+        email.set(model, "anna@company.com");
+        Field count = Model.class.getDeclaredField("count");
+        count.setAccessible(true);
+        count.set(model, counter++);
+        return model;
+    }
+
+    /**
+     * Закэшированные {@link Field} и {@link Constructor}, запись через {@code Field.set}.
+     */
+    @Benchmark
+    public Model reflectiveCached() throws Exception {
+        Model model = constructor.newInstance();
+        nameField.set(model, "Anna");
+        emailField.set(model, "anna@company.com");
+        countField.set(model, counter++);
+        return model;
+    }
+
+    /**
+     * Объект билдера, все поля из переопределений.
+     */
+    @Benchmark
+    public Model builderOverridden() {
+        return overridden.next();
+    }
+
+    /**
+     * Объект билдера, {@code int} генерируется и записывается без упаковки.
+     */
+    @Benchmark
+    public Model builderGenerated() {
+        return generated.next();
+    }
+}
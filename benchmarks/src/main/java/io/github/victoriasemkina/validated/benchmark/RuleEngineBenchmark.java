@@ -0,0 +1,83 @@
+package io.github.victoriasemkina.validated.benchmark;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.rule.CompiledRules;
+import io.github.victoriasemkina.validated.rule.FieldValues;
+import io.github.victoriasemkina.validated.rule.RuleEngine;
+import io.github.victoriasemkina.validated.testmodel.common.ComplexModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поле, для которого правило срабатывает (email из имени), и поле, для которого
+ * ни одно правило не подходит, на двух путях: прежний {@link RuleEngine#applyRules}
+ * с контекстом-{@link HashMap} и {@link CompiledRules} с контекстом {@link FieldValues},
+ * через которые правила применяет {@code ValidatedBuilder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RuleEngineBenchmark {
+
+    private RuleEngine ruleEngine;
+    private GenerationContext generation;
+    private Map<String, Object> values;
+    private FieldDescriptor email;
+    private FieldDescriptor description;
+    private CompiledRules compiled;
+    private FieldValues fieldValues;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        ruleEngine = new RuleEngine();
+        generation = GenerationContext.seeded(42L);
+        values = new HashMap<>();
+        values.put("name", "Anna");
+        email = FieldDescriptor.from(ComplexModel.class.getDeclaredField("email"));
+        description = FieldDescriptor.from(ComplexModel.class.getDeclaredField("description"));
+
+        // Порядок генерации: name, description, email (слоты 0, 1, 2)
+        FieldDescriptor name = FieldDescriptor.from(ComplexModel.class.getDeclaredField("name"));
+        compiled = ruleEngine.compile(List.of(name, description, email));
+        fieldValues = compiled.newValues();
+        fieldValues.set(0, "Anna");
+    }
+
+    @Benchmark
+    public Optional<Object> matchingRule() {
+        return ruleEngine.applyRules(email, values, generation);
+    }
+
+    @Benchmark
+    public Optional<Object> noMatchingRule() {
+        return ruleEngine.applyRules(description, values, generation);
+    }
+
+    @Benchmark
+    public Object compiledMatchingRule() {
+        return compiled.apply(2, email, fieldValues, generation);
+    }
+
+    @Benchmark
+    public Object compiledNoMatchingRule() {
+        return compiled.apply(1, description, fieldValues, generation);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.victoriasemkina.validated.benchmark;
+
+import io.github.victoriasemkina.validated.core.ValidatedBuilder;
+import io.github.victoriasemkina.validated.internal.ValidationUtils;
+import io.github.victoriasemkina.validated.testmodel.common.ComplexModel;
+import io.github.victoriasemkina.validated.testmodel.primitive.FinancialModel;
+import io.github.victoriasemkina.validated.testmodel.temporal.TemporalModel;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Шаг валидации Bean Validation отдельно от генерации: полная проверка
+ * готовых валидных объектов и проверка одного свойства (как при исправлении поля).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+
+    private Validator validator;
+    private ComplexModel complex;
+    private FinancialModel financial;
+    private TemporalModel temporal;
+
+    @Setup
+    public void setUp() {
+        validator = ValidationUtils.defaultValidator();
+        complex = ValidatedBuilder.forClass(ComplexModel.class).withSeed(42L).buildValid();
+        financial = ValidatedBuilder.forClass(FinancialModel.class).withSeed(42L).buildValid();
+        temporal = ValidatedBuilder.forClass(TemporalModel.class).withSeed(42L).buildValid();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ComplexModel>> complexValidate() {
+        return validator.validate(complex);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<FinancialModel>> financialValidate() {
+        return validator.validate(financial);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TemporalModel>> temporalValidate() {
+        return validator.validate(temporal);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ComplexModel>> complexValidateProperty() {
+        return validator.validateProperty(complex, "email");
+    }
+}
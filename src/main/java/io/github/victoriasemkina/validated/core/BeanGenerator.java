@@ -0,0 +1,100 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Генератор вложенных объектов: поле, тип которого — класс приложения
+ * (в том числе запись или неизменяемый класс), заполняется по плану генерации этого класса
+ * ({@link GenerationPlan}). План компилируется один раз на класс и реестр
+ * генераторов, поэтому тип, который встречается в графе много раз, не
+ * разбирается заново.
+ *
+ * <p>Вложенный объект строится генераторами его полей без правил и собственной
+ * валидации: ограничения вложенного объекта проверяет валидация корневого
+ * объекта через {@code @Valid}, а нарушение чинится перегенерацией всего поля.
+ *
+ * <p>Значение — null, если вложенность превысила предел
+ * ({@link ValidatedBuilder#withMaxDepth(int)}) или класс уже строится выше
+ * по графу (цикл, например {@code Category.parent}).
+ */
+final class BeanGenerator implements ValueGenerator {
+
+    /**
+     * Опрашивается перед {@link #FALLBACK_PRIORITY генератором по умолчанию},
+     * поэтому любой генератор для конкретного типа его заменяет.
+     */
+    static final int PRIORITY = FALLBACK_PRIORITY + 1;
+
+    /**
+     * Пакеты платформы: их классы не разбираются как вложенные объекты.
+     */
+    private static final List<String> PLATFORM_PACKAGES =
+            List.of("java.", "javax.", "jakarta.", "jdk.", "sun.", "com.sun.");
+
+    @Override
+    public int priority() {
+        return PRIORITY;
+    }
+
+    @Override
+    public boolean supports(FieldDescriptor descriptor) {
+        return isBean(descriptor.type());
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor) {
+        return generate(descriptor, GenerationContext.unseeded());
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
+        Class<?> type = descriptor.type();
+        if (!context.enterBean(type)) {
+            return null;
+        }
+        try {
+            return GenerationPlan.forClass(type, context.generators()).populate(context);
+        } finally {
+            context.exitBean();
+        }
+    }
+
+    /**
+     * Конкретный класс вне JDK и Jakarta: запись, класс с конструктором без аргументов
+     * или неизменяемый класс с конструктором-создателем ({@link Creator}). Класс,
+     * конструктор которого нельзя сопоставить с полями, вложенным объектом не считается
+     * и остаётся генератору по умолчанию.
+     */
+    static boolean isBean(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface()
+                || Modifier.isAbstract(type.getModifiers())) {
+            return false;
+        }
+        String name = type.getName();
+        for (String prefix : PLATFORM_PACKAGES) {
+            if (name.startsWith(prefix)) {
+                return false;
+            }
+        }
+        try {
+            if (!type.isRecord() && hasNoArgConstructor(type)) {
+                return true;
+            }
+            return Creator.find(type, GenerationPlan.stateFields(type)) != null;
+        } catch (IllegalStateException | SecurityException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasNoArgConstructor(Class<?> type) {
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.victoriasemkina.validated.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Создание объекта конструктором со всеми значениями полей сразу — для записей
+ * ({@code record}) и неизменяемых классов, поля которых нельзя записать после
+ * создания.
+ *
+ * <p>Конструктор выбирается при компиляции плана:
+ * <ul>
+ *   <li>канонический конструктор записи;</li>
+ *   <li>конструктор с аннотацией {@code @JsonCreator} (аннотация распознаётся по
+ *       простому имени, зависимость от Jackson не нужна); параметры сопоставляются
+ *       с полями по {@code @JsonProperty}, по именам параметров (при компиляции
+ *       с {@code -parameters}) или по порядку объявления полей;</li>
+ *   <li>для класса без конструктора без аргументов — конструктор, параметры
+ *       которого совпадают по типам с полями в порядке объявления.</li>
+ * </ul>
+ *
+ * <p>Конструктор разрешается в {@link MethodHandle} с сигнатурой {@code (Object[])Object},
+ * который принимает значения всех полей в порядке объявления: перестановка
+ * аргументов, распаковка примитивов и приведение типов встроены в сам дескриптор.
+ */
+final class Creator {
+
+    private static final String JSON_CREATOR = "JsonCreator";
+    private static final String JSON_PROPERTY = "JsonProperty";
+
+    private final MethodHandle factory;
+    private final boolean[] parameters;
+
+    private Creator(MethodHandle factory, boolean[] parameters) {
+        this.factory = factory;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Конструктор-создатель для класса или null, если класс создаётся
+     * конструктором без аргументов.
+     *
+     * @param fields поля состояния в порядке объявления
+     * @throws IllegalStateException если параметры конструктора нельзя сопоставить с полями
+     */
+    static Creator find(Class<?> type, List<Field> fields) {
+        if (type.isRecord()) {
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] types = new Class<?>[components.length];
+            String[] names = new String[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getType();
+                names[i] = components[i].getName();
+            }
+            try {
+                return of(type.getDeclaredConstructor(types), names, fields);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("У записи " + type.getName() + " нет канонического конструктора", e);
+            }
+        }
+
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (hasAnnotation(constructor.getDeclaredAnnotations(), JSON_CREATOR)) {
+                return of(constructor, parameterNames(constructor, fields), fields);
+            }
+        }
+
+        Constructor<?> canonical = null;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == 0) {
+                return null;
+            }
+            if (canonical == null && matchesFields(constructor, fields)) {
+                canonical = constructor;
+            }
+        }
+        if (canonical == null) {
+            return null;
+        }
+        String[] names = new String[fields.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = fields.get(i).getName();
+        }
+        return of(canonical, names, fields);
+    }
+
+    /**
+     * Создаёт объект из значений полей в порядке объявления; значения полей,
+     * не переданных в конструктор, игнорируются.
+     */
+    Object create(Object[] values) throws Throwable {
+        return (Object) factory.invokeExact(values);
+    }
+
+    /**
+     * Передаётся ли поле с номером {@code position} в конструктор.
+     */
+    boolean isParameter(int position) {
+        return parameters[position];
+    }
+
+    private static Creator of(Constructor<?> constructor, String[] names, List<Field> fields) {
+        Class<?>[] types = constructor.getParameterTypes();
+        int[] reorder = new int[types.length];
+        boolean[] parameters = new boolean[fields.size()];
+        for (int i = 0; i < types.length; i++) {
+            int position = indexOf(fields, names[i]);
+            if (position < 0 || parameters[position]) {
+                throw new IllegalStateException("Параметр '" + names[i] + "' конструктора класса " +
+                        constructor.getDeclaringClass().getName() + " не соответствует ни одному полю");
+            }
+            if (!wrap(types[i]).isAssignableFrom(wrap(fields.get(position).getType()))) {
+                throw new IllegalStateException("Тип параметра '" + names[i] + "' конструктора класса " +
+                        constructor.getDeclaringClass().getName() + " не совпадает с типом поля");
+            }
+            reorder[i] = position;
+            parameters[position] = true;
+        }
+
+        try {
+            constructor.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asType(MethodType.genericMethodType(types.length));
+            handle = MethodHandles.permuteArguments(handle, MethodType.genericMethodType(fields.size()), reorder);
+            return new Creator(handle.asSpreader(Object[].class, fields.size()), parameters);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Конструктор класса " + constructor.getDeclaringClass().getName() +
+                    " недоступен", e);
+        }
+    }
+
+    /**
+     * Имена полей для параметров {@code @JsonCreator}: из {@code @JsonProperty},
+     * из имён параметров или, если конструктор принимает все поля, по порядку полей.
+     */
+    private static String[] parameterNames(Constructor<?> constructor, List<Field> fields) {
+        Parameter[] parameters = constructor.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            String property = jsonProperty(parameters[i]);
+            if (property != null) {
+                names[i] = property;
+            } else if (parameters[i].isNamePresent()) {
+                names[i] = parameters[i].getName();
+            } else if (parameters.length == fields.size()) {
+                names[i] = fields.get(i).getName();
+            } else {
+                throw new IllegalStateException("Не удалось сопоставить параметр " + i +
+                        " конструктора @JsonCreator класса " + constructor.getDeclaringClass().getName() +
+                        " с полем: нужна аннотация @JsonProperty или компиляция с -parameters");
+            }
+        }
+        return names;
+    }
+
+    private static String jsonProperty(Parameter parameter) {
+        for (Annotation annotation : parameter.getDeclaredAnnotations()) {
+            if (annotation.annotationType().getSimpleName().equals(JSON_PROPERTY)) {
+                try {
+                    Object value = annotation.annotationType().getMethod("value").invoke(annotation);
+                    return value instanceof String name && !name.isEmpty() ? name : null;
+                } catch (ReflectiveOperationException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasAnnotation(Annotation[] annotations, String simpleName) {
+        return Arrays.stream(annotations).anyMatch(a -> a.annotationType().getSimpleName().equals(simpleName));
+    }
+
+    private static boolean matchesFields(Constructor<?> constructor, List<Field> fields) {
+        Class<?>[] types = constructor.getParameterTypes();
+        if (types.length != fields.size()) {
+            return false;
+        }
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] != fields.get(i).getType()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(List<Field> fields, String name) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).getName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+
+/**
+ * Генератор значений {@code double} без упаковки.
+ *
+ * <p>Для полей типа {@code double} план генерации записывает результат
+ * {@link #generateDouble} прямо в поле ({@code (Object, double)void}-дескриптор),
+ * минуя {@code Object}: если значение поля не нужно правилам и наблюдателю,
+ * упаковка не происходит вовсе. {@link #generate(FieldDescriptor, GenerationContext)}
+ * упаковывает значение для остальных путей (обёртки, правила, исправление полей).
+ */
+public interface DoubleValueGenerator extends ValueGenerator {
+
+    double generateDouble(FieldDescriptor descriptor, GenerationContext context);
+
+    @Override
+    default Object generate(FieldDescriptor descriptor) {
+        return generate(descriptor, GenerationContext.unseeded());
+    }
+
+    @Override
+    default Object generate(FieldDescriptor descriptor, GenerationContext context) {
+        return generateDouble(descriptor, context);
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.victoriasemkina.validated.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Запись значения в поле через {@link MethodHandle}, разрешённый один раз при компиляции плана.
+ *
+ * <p>Дескриптор приводится к сигнатуре {@code (Object, Object)void}, поэтому вызов
+ * {@code invokeExact} не требует рефлексивных проверок доступа на каждую запись.
+ * Для примитивных полей дополнительно хранится дескриптор с примитивным вторым
+ * аргументом ({@code (Object, int)void} и т. п.): значения, сгенерированные как
+ * примитивы, записываются без упаковки через {@link #setInt}, {@link #setLong},
+ * {@link #setDouble} и {@link #setBoolean}.
+ */
+final class FieldAccessor {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle setter;
+    private final MethodHandle primitiveSetter;
+
+    private FieldAccessor(Field field, MethodHandle setter, MethodHandle primitiveSetter) {
+        this.field = field;
+        this.setter = setter;
+        this.primitiveSetter = primitiveSetter;
+    }
+
+    /**
+     * Разрешает дескрипторы записи для поля. Поле должно быть уже сделано доступным
+     * ({@link Field#setAccessible(boolean)}). Если запись невозможна (например, поле
+     * записи {@code record}), ошибка откладывается до первой попытки записи.
+     */
+    static FieldAccessor of(Field field) {
+        MethodHandle direct;
+        try {
+            direct = MethodHandles.lookup().unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            return new FieldAccessor(field, null, null);
+        }
+
+        Class<?> type = field.getType();
+        MethodHandle primitiveSetter = type.isPrimitive()
+                ? direct.asType(MethodType.methodType(void.class, Object.class, type))
+                : null;
+        return new FieldAccessor(field, direct.asType(SETTER_TYPE), primitiveSetter);
+    }
+
+    void set(Object instance, Object value) {
+        MethodHandle handle = requireSetter();
+        try {
+            handle.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    void setInt(Object instance, int value) {
+        if (primitiveSetter == null || field.getType() != int.class) {
+            set(instance, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    void setLong(Object instance, long value) {
+        if (primitiveSetter == null || field.getType() != long.class) {
+            set(instance, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    void setDouble(Object instance, double value) {
+        if (primitiveSetter == null || field.getType() != double.class) {
+            set(instance, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    void setBoolean(Object instance, boolean value) {
+        if (primitiveSetter == null || field.getType() != boolean.class) {
+            set(instance, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    private MethodHandle requireSetter() {
+        if (setter == null) {
+            throw new IllegalStateException("Поле " + field.getName() + " класса " +
+                    field.getDeclaringClass().getName() + " недоступно для записи");
+        }
+        return setter;
+    }
+
+    private IllegalStateException failure(Throwable cause) {
+        return new IllegalStateException("Не удалось установить поле " + field.getName(), cause);
+    }
+}
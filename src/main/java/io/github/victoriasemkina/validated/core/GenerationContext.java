@@ -0,0 +1,200 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.internal.FakerProvider;
+import io.github.victoriasemkina.validated.rule.CompiledRules;
+import io.github.victoriasemkina.validated.rule.FieldValues;
+import net.datafaker.Faker;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Контекст генерации, который передаётся каждому {@link ValueGenerator} и правилу.
+ *
+ * <p>Содержит единственный источник случайности, которым генераторы обязаны
+ * пользоваться вместо собственных {@code Random}. Даже DataFaker получает
+ * случайность отсюда: {@link #faker()} возвращает экземпляр текущего потока
+ * из {@link FakerProvider}, пересеянный из {@link #random()}. Поэтому при
+ * одинаковом сиде результат генерации воспроизводится бит в бит, а сами
+ * экземпляры Faker создаются один раз на поток и локаль.
+ *
+ * <p>Текущие дата и время для временных генераторов берутся из {@link Clock}
+ * контекста один раз, при первом обращении к {@link #today()} или {@link #now()},
+ * и не меняются до конца жизни контекста (пачки или шарда). С фиксированными
+ * часами и сидом результат воспроизводится и по датам.
+ *
+ * <p>Контекст не потокобезопасен: каждый поток (и каждый шард параллельной
+ * генерации) работает со своим экземпляром.
+ */
+public final class GenerationContext {
+
+    /**
+     * Локаль DataFaker по умолчанию (совпадает с {@code new Faker()}).
+     */
+    public static final Locale DEFAULT_LOCALE = Locale.ENGLISH;
+
+    /**
+     * Предел вложенности объектов по умолчанию ({@link ValidatedBuilder#withMaxDepth(int)}).
+     */
+    static final int DEFAULT_MAX_DEPTH = 8;
+
+    private final RandomGenerator random;
+    private final Locale locale;
+    private final Clock clock;
+    private LocalDate today;
+    private LocalDateTime now;
+    private FieldValues fieldValues;
+    private GeneratorRegistry generators;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    private Class<?>[] beanPath = new Class<?>[4];
+    private int beanPathLength;
+
+    public GenerationContext(RandomGenerator random) {
+        this(random, DEFAULT_LOCALE);
+    }
+
+    public GenerationContext(RandomGenerator random, Locale locale) {
+        this(random, locale, Clock.systemDefaultZone());
+    }
+
+    public GenerationContext(RandomGenerator random, Locale locale, Clock clock) {
+        this.random = Objects.requireNonNull(random, "Источник случайности не может быть null");
+        this.locale = Objects.requireNonNull(locale, "Локаль не может быть null");
+        this.clock = Objects.requireNonNull(clock, "Часы не могут быть null");
+    }
+
+    /**
+     * Контекст с непредсказуемым источником случайности.
+     */
+    public static GenerationContext unseeded() {
+        return new GenerationContext(new SplittableRandom());
+    }
+
+    /**
+     * Контекст, полностью определяемый сидом.
+     */
+    public static GenerationContext seeded(long seed) {
+        return new GenerationContext(new SplittableRandom(seed));
+    }
+
+    /**
+     * Источник случайности для генераторов.
+     */
+    public RandomGenerator random() {
+        return random;
+    }
+
+    /**
+     * DataFaker, пересеянный из {@link #random()}.
+     * Результат не следует сохранять между вызовами генератора.
+     */
+    public Faker faker() {
+        return FakerProvider.forCurrentThread(locale, random.nextLong());
+    }
+
+    /**
+     * Локаль, в которой DataFaker генерирует имена и тексты.
+     */
+    public Locale locale() {
+        return locale;
+    }
+
+    /**
+     * Часы, от которых отсчитываются временные ограничения.
+     */
+    public Clock clock() {
+        return clock;
+    }
+
+    /**
+     * Текущая дата по {@link #clock()}, зафиксированная при первом обращении.
+     */
+    public LocalDate today() {
+        LocalDate date = today;
+        if (date == null) {
+            date = LocalDate.now(clock);
+            today = date;
+        }
+        return date;
+    }
+
+    /**
+     * Текущие дата и время по {@link #clock()}, зафиксированные при первом обращении.
+     */
+    public LocalDateTime now() {
+        LocalDateTime dateTime = now;
+        if (dateTime == null) {
+            dateTime = LocalDateTime.now(clock);
+            now = dateTime;
+        }
+        return dateTime;
+    }
+
+    /**
+     * Пустой контекст значений полей для правил. Экземпляр переиспользуется
+     * всеми объектами, построенными с этим контекстом генерации, и заменяется
+     * только при смене скомпилированных правил (другой класс или набор правил).
+     */
+    FieldValues fieldValues(CompiledRules rules) {
+        FieldValues values = fieldValues;
+        if (values == null || !values.isFor(rules)) {
+            values = rules.newValues();
+            fieldValues = values;
+        }
+        values.clear();
+        return values;
+    }
+
+    /**
+     * Настраивает построение графа объектов: корневой класс, реестр, по которому
+     * компилируются планы вложенных классов, и предел вложенности.
+     */
+    void startGraph(Class<?> root, GeneratorRegistry generators, int maxDepth) {
+        this.generators = generators;
+        this.maxDepth = maxDepth;
+        this.beanPath[0] = root;
+        this.beanPathLength = 1;
+    }
+
+    /**
+     * Реестр генераторов строящегося объекта ({@link GeneratorRegistry#global()},
+     * если контекст создан не билдером). По нему выбираются генераторы для полей
+     * вложенных объектов и элементов коллекций.
+     */
+    public GeneratorRegistry generators() {
+        GeneratorRegistry registry = generators;
+        return registry != null ? registry : GeneratorRegistry.global();
+    }
+
+    /**
+     * Спускается во вложенный объект класса {@code type}.
+     *
+     * @return false, если предел вложенности исчерпан или класс уже строится
+     *         выше по графу; иначе после построения нужно вызвать {@link #exitBean()}
+     */
+    boolean enterBean(Class<?> type) {
+        if (beanPathLength > maxDepth) {
+            return false;
+        }
+        for (int i = 0; i < beanPathLength; i++) {
+            if (beanPath[i] == type) {
+                return false;
+            }
+        }
+        if (beanPathLength == beanPath.length) {
+            beanPath = Arrays.copyOf(beanPath, beanPathLength * 2);
+        }
+        beanPath[beanPathLength++] = type;
+        return true;
+    }
+
+    void exitBean() {
+        beanPath[--beanPathLength] = null;
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.ConstraintViolation;
+
+import java.util.Set;
+
+/**
+ * Наблюдатель за процессом генерации (диагностика, логирование, метрики).
+ *
+ * <p>По умолчанию у билдера наблюдателя нет, и горячий цикл генерации не
+ * формирует ни строк, ни объектов событий: все вызовы защищены проверкой на null.
+ * Все методы имеют пустые реализации по умолчанию, поэтому достаточно
+ * переопределить только нужные события.
+ *
+ * <p>Наблюдатель вызывается из потоков генерации; при параллельной генерации
+ * реализация должна быть потокобезопасной.
+ *
+ * @see ValidatedBuilder#withListener(GenerationListener)
+ * @see #systemLogger()
+ */
+public interface GenerationListener {
+
+    /**
+     * Откуда взялось значение поля.
+     */
+    enum Source {
+        /** Ручное переопределение ({@link ValidatedBuilder#override}). */
+        OVERRIDE,
+        /** Контекстное правило из {@link io.github.victoriasemkina.validated.rule.RuleEngine}. */
+        RULE,
+        /** Генератор поля. */
+        GENERATOR,
+        /** Повторная генерация поля, нарушившего ограничения. */
+        REPAIR
+    }
+
+    /**
+     * Начата попытка построить объект (нумерация с 1).
+     */
+    default void onAttempt(Class<?> type, int attempt) {
+    }
+
+    /**
+     * Полю присвоено значение.
+     */
+    default void onFieldGenerated(Class<?> type, FieldDescriptor field, Object value, Source source) {
+    }
+
+    /**
+     * Объект не прошёл валидацию; далее будут исправлены поля-нарушители.
+     */
+    default void onViolations(Class<?> type, Set<? extends ConstraintViolation<?>> violations) {
+    }
+
+    /**
+     * Попытка завершилась исключением (например, в генераторе или конструкторе).
+     */
+    default void onAttemptFailed(Class<?> type, int attempt, Exception error) {
+    }
+
+    /**
+     * Объект построен (и, если он попал в выборку, прошёл валидацию).
+     */
+    default void onObjectCreated(Class<?> type, Object instance) {
+    }
+
+    /**
+     * Наблюдатель, пишущий события в {@link System.Logger} с именем
+     * {@code io.github.victoriasemkina.validated}: значения полей на уровне TRACE,
+     * попытки и нарушения на уровне DEBUG, ошибки попыток на уровне WARNING.
+     * Сообщения формируются, только если соответствующий уровень включён.
+     */
+    static GenerationListener systemLogger() {
+        return new SystemLoggerListener(System.getLogger("io.github.victoriasemkina.validated"));
+    }
+}
@@ -0,0 +1,323 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.rule.CompiledRules;
+import io.github.victoriasemkina.validated.rule.Rule;
+import io.github.victoriasemkina.validated.rule.RuleEngine;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Скомпилированный план генерации для конкретного класса.
+ *
+ * <p>Всё, что не зависит от конкретной попытки генерации, вычисляется один раз:
+ * описания полей ({@link FieldDescriptor}) с уже разобранными аннотациями,
+ * {@link FieldAccessor}-ы для записи значений, выбранный генератор для каждого
+ * поля (для примитивных полей — вместе с {@link PrimitiveWriter}) и способ создания
+ * объекта: {@link MethodHandle} конструктора без аргументов или конструктор-создатель
+ * ({@link Creator}). Планы кэшируются глобально через {@link ClassValue}, поэтому
+ * повторные сборки одного и того же класса не выполняют рефлексивных поисков.
+ *
+ * <p>Записи ({@code record}) и неизменяемые классы создаются иначе: значения всех
+ * полей генерируются заранее и передаются в конструктор ({@link Creator}) через
+ * {@link #create(Object[])}. Такой план {@link #hasCreator() имеет создателя}.
+ *
+ * <p>Порядок генерации полей зависит от правил: он вычисляется топологической
+ * сортировкой по входам правил ({@link RuleEngine#order}). В плане запоминается
+ * только порядок для правил по умолчанию ({@link #order(RuleEngine)}): правила
+ * билдера — новые экземпляры у каждого билдера, и их порядок хранит сам билдер.
+ *
+ * <p>План неизменяем и безопасен для использования из нескольких потоков.
+ */
+final class GenerationPlan<T> {
+
+    private static final ClassValue<CachedPlan> CACHE = new ClassValue<>() {
+        @Override
+        protected CachedPlan computeValue(Class<?> type) {
+            return new CachedPlan();
+        }
+    };
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<T> targetClass;
+    private final GeneratorRegistry generators;
+    private final MethodHandle constructor;
+    private final Creator creator;
+    private final List<PlannedField> fields;
+    private final Map<String, PlannedField> fieldsByName;
+    private volatile DefaultOrder defaultOrder;
+
+    private GenerationPlan(Class<T> targetClass, GeneratorRegistry generators, MethodHandle constructor,
+                           Creator creator, List<PlannedField> fields) {
+        this.targetClass = targetClass;
+        this.generators = generators;
+        this.constructor = constructor;
+        this.creator = creator;
+        this.fields = fields;
+        Map<String, PlannedField> byName = new HashMap<>();
+        for (PlannedField field : fields) {
+            byName.put(field.name(), field);
+        }
+        this.fieldsByName = Map.copyOf(byName);
+    }
+
+    /**
+     * Возвращает закэшированный план для класса с генераторами глобального реестра
+     * ({@link GeneratorRegistry#global()}). Если с момента компиляции в глобальный
+     * реестр добавили генератор, план компилируется заново.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> GenerationPlan<T> forClass(Class<T> targetClass) {
+        GeneratorRegistry registry = GeneratorRegistry.global();
+        CachedPlan cached = CACHE.get(targetClass);
+        GenerationPlan<?> plan = cached.plan;
+        if (plan == null || plan.generators != registry) {
+            plan = compile(targetClass, registry);
+            cached.plan = plan;
+        }
+        return (GenerationPlan<T>) plan;
+    }
+
+    /**
+     * Закэшированный план для класса с указанным набором генераторов: для глобального
+     * реестра — как {@link #forClass(Class)}, для собственного — в кэше этого реестра.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> GenerationPlan<T> forClass(Class<T> targetClass, GeneratorRegistry generators) {
+        if (generators == GeneratorRegistry.global()) {
+            return forClass(targetClass);
+        }
+        GenerationPlan<?> plan = generators.plans.get(targetClass);
+        if (plan == null) {
+            plan = compile(targetClass, generators);
+            generators.plans.putIfAbsent(targetClass, plan);
+        }
+        return (GenerationPlan<T>) plan;
+    }
+
+    /**
+     * Компилирует план для класса с указанным набором генераторов.
+     */
+    static <T> GenerationPlan<T> compile(Class<T> targetClass, GeneratorRegistry generators) {
+        List<Field> stateFields = stateFields(targetClass);
+        Creator creator = Creator.find(targetClass, stateFields);
+        List<PlannedField> planned = new ArrayList<>();
+        for (Field field : stateFields) {
+            field.setAccessible(true);
+            FieldDescriptor descriptor = FieldDescriptor.from(field);
+            FieldAccessor accessor = FieldAccessor.of(field);
+            ValueGenerator generator = generators.resolve(descriptor);
+            // Значения параметров конструктора собираются в массив, а не пишутся в поле
+            PrimitiveWriter primitiveWriter = creator == null
+                    ? PrimitiveWriter.of(descriptor, accessor, generator)
+                    : null;
+            planned.add(new PlannedField(descriptor, field, accessor, generator, primitiveWriter, planned.size()));
+        }
+
+        MethodHandle constructor = creator == null ? findConstructor(targetClass) : null;
+        return new GenerationPlan<>(targetClass, generators, constructor, creator, List.copyOf(planned));
+    }
+
+    Class<T> targetClass() {
+        return targetClass;
+    }
+
+    /**
+     * Реестр, по которому выбраны генераторы полей.
+     */
+    GeneratorRegistry generators() {
+        return generators;
+    }
+
+    /**
+     * Поля в порядке объявления.
+     */
+    List<PlannedField> fields() {
+        return fields;
+    }
+
+    /**
+     * Порядок генерации полей и правила-кандидаты для правил движка.
+     * Для правил по умолчанию ({@link RuleEngine#hasDefaultRules()}) вычисляется
+     * один раз на план, для остальных — при каждом вызове.
+     *
+     * @throws IllegalStateException если правила образуют циклическую зависимость полей
+     */
+    GenerationOrder order(RuleEngine ruleEngine) {
+        List<Rule> rules = ruleEngine.rules();
+        DefaultOrder cached = defaultOrder;
+        if (cached != null && cached.rules().equals(rules)) {
+            return cached.order();
+        }
+        GenerationOrder order = GenerationOrder.compile(fields, ruleEngine);
+        if (ruleEngine.hasDefaultRules()) {
+            defaultOrder = new DefaultOrder(rules, order);
+        }
+        return order;
+    }
+
+    /**
+     * Поле плана по имени или null, если такого поля нет.
+     */
+    PlannedField field(String name) {
+        return fieldsByName.get(name);
+    }
+
+    /**
+     * Создаёт новый пустой экземпляр целевого класса.
+     */
+    T newInstance() {
+        if (constructor == null) {
+            throw new IllegalStateException("Класс " + targetClass.getName() +
+                    " не имеет конструктора без аргументов");
+        }
+        try {
+            return targetClass.cast((Object) constructor.invokeExact());
+        } catch (Throwable e) {
+            throw new IllegalStateException("Конструктор класса " + targetClass.getName() +
+                    " выбросил исключение", e);
+        }
+    }
+
+    /**
+     * Создаётся ли объект конструктором со значениями полей ({@link #create(Object[])})
+     * вместо конструктора без аргументов и записи полей.
+     */
+    boolean hasCreator() {
+        return creator != null;
+    }
+
+    /**
+     * Создаёт экземпляр конструктором-создателем. Изменяемые поля, которые конструктор
+     * не принимает, записываются после создания; {@code final}-поля остаются такими,
+     * какими их оставил конструктор.
+     *
+     * @param values значения полей по {@link PlannedField#position() номерам объявления}
+     */
+    T create(Object[] values) {
+        Object instance;
+        try {
+            instance = creator.create(values);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Конструктор класса " + targetClass.getName() +
+                    " выбросил исключение", e);
+        }
+        for (PlannedField field : fields) {
+            if (!creator.isParameter(field.position()) && !Modifier.isFinal(field.field().getModifiers())) {
+                field.accessor().set(instance, values[field.position()]);
+            }
+        }
+        return targetClass.cast(instance);
+    }
+
+    /**
+     * Создаёт экземпляр и заполняет все поля их генераторами (без правил,
+     * переопределений и валидации) — так строятся вложенные объекты.
+     */
+    T populate(GenerationContext context) {
+        if (creator != null) {
+            Object[] values = new Object[fields.size()];
+            for (PlannedField field : fields) {
+                values[field.position()] = field.generator().generate(field.descriptor(), context);
+            }
+            return create(values);
+        }
+        T instance = newInstance();
+        for (PlannedField field : fields) {
+            if (field.primitiveWriter() != null) {
+                field.primitiveWriter().write(instance, context);
+            } else {
+                field.accessor().set(instance, field.generator().generate(field.descriptor(), context));
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Поля состояния объекта в порядке объявления: статические и синтетические
+     * поля пропускаются.
+     */
+    static List<Field> stateFields(Class<?> targetClass) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : targetClass.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Дескриптор конструктора без аргументов с сигнатурой {@code ()Object}
+     * или null, если такого конструктора нет или он недоступен.
+     */
+    private static MethodHandle findConstructor(Class<?> targetClass) {
+        try {
+            Constructor<?> constructor = targetClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor).asType(FACTORY_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Ячейка кэша планов класса; план заменяется при смене глобального реестра генераторов.
+     */
+    private static final class CachedPlan {
+        volatile GenerationPlan<?> plan;
+    }
+
+    /**
+     * Порядок для правил по умолчанию вместе с правилами, для которых он вычислен
+     * (набор меняется при регистрации глобального правила).
+     */
+    private record DefaultOrder(List<Rule> rules, GenerationOrder order) {
+    }
+
+    /**
+     * Поле плана: описание, {@link Field}, разрешённый дескриптор записи, выбранный генератор,
+     * для примитивных полей — запись без упаковки ({@code primitiveWriter}, иначе null)
+     * и номер поля в порядке объявления ({@code position}).
+     */
+    record PlannedField(FieldDescriptor descriptor, Field field, FieldAccessor accessor, ValueGenerator generator,
+                        PrimitiveWriter primitiveWriter, int position) {
+
+        String name() {
+            return descriptor.name();
+        }
+    }
+
+    /**
+     * Поля в порядке генерации и правила, разложенные по номерам полей в этом порядке.
+     */
+    record GenerationOrder(List<PlannedField> fields, CompiledRules rules) {
+
+        static GenerationOrder compile(List<PlannedField> declared, RuleEngine ruleEngine) {
+            List<FieldDescriptor> descriptors = new ArrayList<>(declared.size());
+            for (PlannedField field : declared) {
+                descriptors.add(field.descriptor());
+            }
+
+            List<PlannedField> ordered = new ArrayList<>(declared.size());
+            List<FieldDescriptor> orderedDescriptors = new ArrayList<>(declared.size());
+            for (int slot : ruleEngine.order(descriptors)) {
+                ordered.add(declared.get(slot));
+                orderedDescriptors.add(descriptors.get(slot));
+            }
+            return new GenerationOrder(List.copyOf(ordered), ruleEngine.compile(orderedDescriptors));
+        }
+    }
+}
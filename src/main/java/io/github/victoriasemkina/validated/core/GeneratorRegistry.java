@@ -0,0 +1,227 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.generator.container.ArrayGenerator;
+import io.github.victoriasemkina.validated.generator.container.CollectionGenerator;
+import io.github.victoriasemkina.validated.generator.container.MapGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.BigDecimalGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.BooleanGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.ByteGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.DefaultGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.DoubleGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.IntGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.LongGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.PatternGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.ShortGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.StringGenerator;
+import io.github.victoriasemkina.validated.generator.semantic.EmailGenerator;
+import io.github.victoriasemkina.validated.generator.temporal.LocalDateGenerator;
+import io.github.victoriasemkina.validated.generator.temporal.LocalDateTimeGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Неизменяемый набор генераторов с индексом по типу поля.
+ *
+ * <p>Генераторы упорядочены по {@link ValueGenerator#priority() приоритету}
+ * (при равенстве раньше идёт зарегистрированный позже): для поля выбирается
+ * первый генератор, чей {@link ValueGenerator#supports} вернул true. Чтобы не
+ * опрашивать все генераторы, для каждого точного типа из {@link ValueGenerator#supportedTypes()} заранее
+ * строится цепочка кандидатов: генераторы этого типа (например, {@link EmailGenerator}
+ * и {@link StringGenerator} для {@code String}) вперемешку с универсальными
+ * генераторами в порядке приоритета. Типы без цепочки обслуживаются только
+ * универсальными генераторами (в конце — {@link BeanGenerator} для вложенных
+ * объектов и {@link DefaultGenerator}).
+ *
+ * <p>Результат выбора запоминается для каждого {@link FieldDescriptor}: повторное
+ * разрешение поля — это один поиск в хэш-таблице без аллокаций.
+ *
+ * <p>Реестр неизменяем: {@link #with(ValueGenerator...)} возвращает новый реестр.
+ * Глобальный реестр ({@link #global()}) содержит встроенные генераторы,
+ * генераторы, найденные через {@link ServiceLoader} (файл
+ * {@code META-INF/services/io.github.victoriasemkina.validated.core.ValueGenerator}),
+ * и зарегистрированные через {@link #registerGlobal(ValueGenerator)}. Поиск
+ * через {@link ServiceLoader} выполняется один раз на JVM.
+ */
+public final class GeneratorRegistry {
+
+    private static final GeneratorRegistry DEFAULTS = new GeneratorRegistry(List.of(
+            new PatternGenerator(),
+            new EmailGenerator(),
+            new StringGenerator(),
+            new BigDecimalGenerator(),
+            new IntGenerator(),
+            new LongGenerator(),
+            new ShortGenerator(),
+            new ByteGenerator(),
+            new DoubleGenerator(),
+            new BooleanGenerator(),
+            new LocalDateGenerator(),
+            new LocalDateTimeGenerator(),
+            new CollectionGenerator(),
+            new MapGenerator(),
+            new ArrayGenerator(),
+            new BeanGenerator(),
+            new DefaultGenerator()
+    ));
+
+    private static volatile GeneratorRegistry global;
+
+    private final List<ValueGenerator> registered;
+    private final List<ValueGenerator> generators;
+    private final Map<Class<?>, ValueGenerator[]> chainsByType;
+    private final ValueGenerator[] universalChain;
+    private final Map<FieldDescriptor, ValueGenerator> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Планы генерации классов с генераторами этого реестра
+     * (для глобального реестра планы хранятся в {@link GenerationPlan}).
+     */
+    final Map<Class<?>, GenerationPlan<?>> plans = new ConcurrentHashMap<>();
+
+    /**
+     * @param generators генераторы в порядке регистрации; окончательный порядок
+     *                   определяется их приоритетами
+     */
+    public GeneratorRegistry(List<? extends ValueGenerator> generators) {
+        Objects.requireNonNull(generators, "Список генераторов не может быть null");
+        this.registered = List.copyOf(generators);
+        this.generators = byPriority(registered);
+
+        Set<Class<?>> indexedTypes = new LinkedHashSet<>();
+        List<ValueGenerator> universal = new ArrayList<>();
+        for (ValueGenerator generator : this.generators) {
+            Set<Class<?>> types = generator.supportedTypes();
+            if (types.isEmpty()) {
+                universal.add(generator);
+            } else {
+                indexedTypes.addAll(types);
+            }
+        }
+
+        Map<Class<?>, ValueGenerator[]> chains = new HashMap<>();
+        for (Class<?> type : indexedTypes) {
+            List<ValueGenerator> chain = new ArrayList<>();
+            for (ValueGenerator generator : this.generators) {
+                Set<Class<?>> types = generator.supportedTypes();
+                if (types.isEmpty() || types.contains(type)) {
+                    chain.add(generator);
+                }
+            }
+            chains.put(type, chain.toArray(new ValueGenerator[0]));
+        }
+        this.chainsByType = Map.copyOf(chains);
+        this.universalChain = universal.toArray(new ValueGenerator[0]);
+    }
+
+    /**
+     * Только встроенные генераторы библиотеки.
+     */
+    public static GeneratorRegistry defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Глобальный реестр: встроенные, найденные через {@link ServiceLoader}
+     * и зарегистрированные через {@link #registerGlobal(ValueGenerator)} генераторы.
+     */
+    public static GeneratorRegistry global() {
+        GeneratorRegistry registry = global;
+        if (registry == null) {
+            synchronized (GeneratorRegistry.class) {
+                registry = global;
+                if (registry == null) {
+                    registry = DEFAULTS.with(discover().toArray(new ValueGenerator[0]));
+                    global = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Добавляет генератор в глобальный реестр. Уже созданные планы генерации
+     * перекомпилируются при следующем обращении к ним.
+     */
+    public static void registerGlobal(ValueGenerator generator) {
+        Objects.requireNonNull(generator, "Генератор не может быть null");
+        synchronized (GeneratorRegistry.class) {
+            global = global().with(generator);
+        }
+    }
+
+    /**
+     * Новый реестр с дополнительными генераторами (зарегистрированными позже текущих).
+     */
+    public GeneratorRegistry with(ValueGenerator... additional) {
+        List<ValueGenerator> all = new ArrayList<>(registered);
+        for (ValueGenerator generator : additional) {
+            all.add(Objects.requireNonNull(generator, "Генератор не может быть null"));
+        }
+        return new GeneratorRegistry(all);
+    }
+
+    /**
+     * Генератор для поля (результат запоминается).
+     *
+     * @throws IllegalArgumentException если ни один генератор не поддерживает поле
+     */
+    public ValueGenerator resolve(FieldDescriptor descriptor) {
+        ValueGenerator generator = resolved.get(descriptor);
+        if (generator == null) {
+            generator = find(descriptor);
+            resolved.putIfAbsent(descriptor, generator);
+        }
+        return generator;
+    }
+
+    /**
+     * Все генераторы в порядке приоритета.
+     */
+    public List<ValueGenerator> generators() {
+        return generators;
+    }
+
+    /**
+     * Сортирует по убыванию приоритета; при равенстве позже зарегистрированный идёт раньше.
+     */
+    private static List<ValueGenerator> byPriority(List<? extends ValueGenerator> generators) {
+        List<ValueGenerator> reversed = new ArrayList<>(generators);
+        Collections.reverse(reversed);
+        reversed.sort(Comparator.comparingInt(ValueGenerator::priority).reversed());
+        return List.copyOf(reversed);
+    }
+
+    private static List<ValueGenerator> discover() {
+        List<ValueGenerator> discovered = new ArrayList<>();
+        try {
+            for (ValueGenerator generator : ServiceLoader.load(ValueGenerator.class)) {
+                discovered.add(generator);
+            }
+        } catch (ServiceConfigurationError e) {
+            throw new IllegalStateException("Не удалось загрузить генераторы через ServiceLoader", e);
+        }
+        return discovered;
+    }
+
+    private ValueGenerator find(FieldDescriptor descriptor) {
+        ValueGenerator[] chain = chainsByType.getOrDefault(descriptor.type(), universalChain);
+        for (ValueGenerator generator : chain) {
+            if (generator.supports(descriptor)) {
+                return generator;
+            }
+        }
+        throw new IllegalArgumentException("No generator found for field: " + descriptor.name());
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+
+/**
+ * Слитые генерация и запись примитивного поля: значение от
+ * {@link IntValueGenerator} (и аналогов) сразу уходит в
+ * {@code (Object, int)void}-дескриптор поля без упаковки.
+ * Строится при компиляции плана ({@link GenerationPlan}).
+ */
+@FunctionalInterface
+interface PrimitiveWriter {
+
+    void write(Object instance, GenerationContext context);
+
+    /**
+     * Писатель для поля или null, если тип поля не примитивный либо генератор
+     * не умеет выдавать значения этого типа без упаковки.
+     */
+    static PrimitiveWriter of(FieldDescriptor descriptor, FieldAccessor accessor, ValueGenerator generator) {
+        Class<?> type = descriptor.type();
+        if (type == int.class && generator instanceof IntValueGenerator ints) {
+            return (instance, context) -> accessor.setInt(instance, ints.generateInt(descriptor, context));
+        }
+        if (type == long.class && generator instanceof LongValueGenerator longs) {
+            return (instance, context) -> accessor.setLong(instance, longs.generateLong(descriptor, context));
+        }
+        if (type == double.class && generator instanceof DoubleValueGenerator doubles) {
+            return (instance, context) -> accessor.setDouble(instance, doubles.generateDouble(descriptor, context));
+        }
+        if (type == boolean.class && generator instanceof BooleanValueGenerator booleans) {
+            return (instance, context) -> accessor.setBoolean(instance, booleans.generateBoolean(descriptor, context));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.ConstraintViolation;
+
+import java.lang.System.Logger.Level;
+import java.util.Set;
+
+/**
+ * {@link GenerationListener}, пишущий события в {@link System.Logger}.
+ * Перед форматированием каждого сообщения проверяется, включён ли уровень.
+ */
+final class SystemLoggerListener implements GenerationListener {
+
+    private static final int MAX_DISPLAY_LENGTH = 50;
+
+    private final System.Logger logger;
+
+    SystemLoggerListener(System.Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void onAttempt(Class<?> type, int attempt) {
+        if (logger.isLoggable(Level.DEBUG)) {
+            logger.log(Level.DEBUG, "Генерация объекта класса " + type.getSimpleName() + ", попытка #" + attempt);
+        }
+    }
+
+    @Override
+    public void onFieldGenerated(Class<?> type, FieldDescriptor field, Object value, Source source) {
+        if (logger.isLoggable(Level.TRACE)) {
+            logger.log(Level.TRACE, "  [" + source + "] " + type.getSimpleName() + "." + field.name() +
+                    " = " + formatValueForDisplay(value));
+        }
+    }
+
+    @Override
+    public void onViolations(Class<?> type, Set<? extends ConstraintViolation<?>> violations) {
+        if (logger.isLoggable(Level.DEBUG)) {
+            StringBuilder message = new StringBuilder("Нарушения валидации ").append(type.getSimpleName()).append(':');
+            for (ConstraintViolation<?> violation : violations) {
+                message.append("\n    - ").append(violation.getPropertyPath())
+                        .append(": ").append(violation.getMessage());
+            }
+            logger.log(Level.DEBUG, message.toString());
+        }
+    }
+
+    @Override
+    public void onAttemptFailed(Class<?> type, int attempt, Exception error) {
+        if (logger.isLoggable(Level.WARNING)) {
+            logger.log(Level.WARNING, "Ошибка при создании объекта " + type.getSimpleName() +
+                    " в попытке #" + attempt, error);
+        }
+    }
+
+    @Override
+    public void onObjectCreated(Class<?> type, Object instance) {
+        if (logger.isLoggable(Level.DEBUG)) {
+            logger.log(Level.DEBUG, "Объект класса " + type.getSimpleName() + " успешно создан");
+        }
+    }
+
+    /**
+     * Форматирует значение для отображения в логах (длинные строки сокращаются).
+     */
+    static String formatValueForDisplay(Object value) {
+        String strValue = String.valueOf(value);
+        if (strValue.length() > MAX_DISPLAY_LENGTH) {
+            return strValue.substring(0, MAX_DISPLAY_LENGTH - 3) + "...";
+        }
+        return strValue;
+    }
+}
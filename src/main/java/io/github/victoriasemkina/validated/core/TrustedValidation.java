@@ -0,0 +1,116 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Результат анализа «какие ограничения класса генераторы гарантируют сами».
+ *
+ * <p>Для каждого свойства из метаданных Bean Validation проверяется, покрывает ли
+ * генератор поля все его ограничения ({@link ValueGenerator#guaranteedConstraints}).
+ * Непокрытые свойства проверяются через {@link Validator#validateProperty};
+ * ограничения уровня класса и каскадные свойства ({@code @Valid}) требуют полной
+ * валидации объекта. Анализ выполняется один раз на билдер.
+ */
+final class TrustedValidation {
+
+    private final GenerationPlan<?> plan;
+    private final boolean fullValidation;
+    private final List<String> uncoveredProperties;
+
+    private TrustedValidation(GenerationPlan<?> plan, boolean fullValidation, List<String> uncoveredProperties) {
+        this.plan = plan;
+        this.fullValidation = fullValidation;
+        this.uncoveredProperties = uncoveredProperties;
+    }
+
+    static TrustedValidation analyze(GenerationPlan<?> plan, Validator validator) {
+        BeanDescriptor bean = validator.getConstraintsForClass(plan.targetClass());
+        if (!bean.getConstraintDescriptors().isEmpty()) {
+            return new TrustedValidation(plan, true, List.of());
+        }
+
+        Map<String, GenerationPlan.PlannedField> fieldsByName = new HashMap<>();
+        for (GenerationPlan.PlannedField field : plan.fields()) {
+            fieldsByName.put(field.name(), field);
+        }
+
+        boolean fullValidation = false;
+        List<String> uncovered = new ArrayList<>();
+        for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+            if (property.isCascaded() || !property.getConstrainedContainerElementTypes().isEmpty()) {
+                fullValidation = true;
+            }
+            GenerationPlan.PlannedField field = fieldsByName.get(property.getPropertyName());
+            if (field == null || !isCovered(field, property.getConstraintDescriptors())) {
+                uncovered.add(property.getPropertyName());
+            }
+        }
+        return new TrustedValidation(plan, fullValidation, List.copyOf(uncovered));
+    }
+
+    private static boolean isCovered(GenerationPlan.PlannedField field,
+                                     Set<ConstraintDescriptor<?>> constraints) {
+        FieldDescriptor descriptor = field.descriptor();
+        Set<Class<? extends Annotation>> guaranteed = field.generator().guaranteedConstraints(descriptor);
+        for (ConstraintDescriptor<?> constraint : constraints) {
+            if (!guaranteed.contains(constraint.getAnnotation().annotationType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет только то, что не гарантировано генераторами.
+     *
+     * @param untrustedFields поля, значения которых пришли не из генератора
+     *                        (переопределения, правила) и поэтому проверяются всегда
+     */
+    <T> Set<ConstraintViolation<T>> validate(Validator validator, T instance, Collection<String> untrustedFields) {
+        if (fullValidation) {
+            return validator.validate(instance);
+        }
+        if (uncoveredProperties.isEmpty() && untrustedFields.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<ConstraintViolation<T>> violations = new HashSet<>();
+        for (String property : uncoveredProperties) {
+            violations.addAll(validator.validateProperty(instance, property));
+        }
+        for (String field : untrustedFields) {
+            if (!uncoveredProperties.contains(field)) {
+                violations.addAll(validator.validateProperty(instance, field));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Выполнен ли анализ для этого плана (план меняется вместе с набором генераторов).
+     */
+    boolean isFor(GenerationPlan<?> plan) {
+        return this.plan == plan;
+    }
+
+    /**
+     * Все ли ограничения класса гарантированы генераторами.
+     */
+    boolean isFullyTrusted() {
+        return !fullValidation && uncoveredProperties.isEmpty();
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.victoriasemkina.validated.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Значения поля не повторяются в пределах одной пачки
+ * ({@link ValidatedBuilder#buildMany(int)}, {@link ValidatedBuilder#iterator()} и т. п.).
+ * То же, что {@link ValidatedBuilder#unique(String)}, но объявленное в модели.
+ *
+ * <p>Повторяющаяся строка получает короткий суффикс (у адресов email — перед {@code @}),
+ * значение другого типа генерируется заново.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Unique {
+}
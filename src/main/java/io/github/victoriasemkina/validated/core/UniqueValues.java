@@ -0,0 +1,116 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.internal.FingerprintSet;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Уникальность значений полей в пределах пачки: для каждого уникального поля
+ * хранится {@link FingerprintSet} отпечатков уже выданных значений, а не сами значения.
+ *
+ * <p>Повтор строки разрешается суффиксом из номера коллизии в base36
+ * ({@code anna@company.com} → {@code anna.1@company.com}, {@code SKU-7} → {@code SKU-7-2}),
+ * повтор значения другого типа — повторной генерацией. Значения из отвергнутых
+ * попыток остаются занятыми. Экземпляр разделяется потоками пачки: каждое поле
+ * синхронизируется отдельно, поэтому при параллельной генерации суффикс может
+ * достаться другому из двух одинаковых значений, чем при последовательной.
+ */
+final class UniqueValues {
+
+    /**
+     * Сколько раз генератор может выдать уже занятое значение, прежде чем пачка остановится.
+     */
+    private static final int REGENERATION_ATTEMPTS = 1_000;
+
+    private final FingerprintSet[] sets;
+    private final long[] collisions;
+
+    private UniqueValues(FingerprintSet[] sets) {
+        this.sets = sets;
+        this.collisions = new long[sets.length];
+    }
+
+    /**
+     * Уникальность для полей плана или null, если уникальных полей нет.
+     *
+     * @param fields       поля плана в порядке объявления
+     * @param uniqueNames  поля, объявленные уникальными через билдер
+     * @param expectedSize ожидаемый размер пачки (0, если неизвестен)
+     */
+    static UniqueValues create(List<GenerationPlan.PlannedField> fields, Set<String> uniqueNames, int expectedSize) {
+        FingerprintSet[] sets = new FingerprintSet[fields.size()];
+        boolean any = false;
+        for (GenerationPlan.PlannedField field : fields) {
+            FieldDescriptor descriptor = field.descriptor();
+            if (uniqueNames.contains(descriptor.name()) || descriptor.hasConstraint(Unique.class)) {
+                sets[field.position()] = new FingerprintSet(expectedSize);
+                any = true;
+            }
+        }
+        return any ? new UniqueValues(sets) : null;
+    }
+
+    /**
+     * Нужно ли проверять уникальность значений поля.
+     */
+    boolean tracks(GenerationPlan.PlannedField field) {
+        return sets[field.position()] != null;
+    }
+
+    /**
+     * Занимает значение поля или подбирает вместо повтора уникальное.
+     *
+     * @return само значение, если оно ещё не встречалось, иначе уникальная замена
+     * @throws IllegalStateException если генератор не выдаёт новых значений
+     */
+    Object claim(GenerationPlan.PlannedField field, Object value, GenerationContext context) {
+        if (value == null) {
+            return null;
+        }
+        int index = field.position();
+        FingerprintSet set = sets[index];
+        synchronized (set) {
+            if (set.add(fingerprint(value))) {
+                return value;
+            }
+            if (value instanceof String text) {
+                while (true) {
+                    String candidate = withSuffix(text, Long.toString(++collisions[index], 36));
+                    if (set.add(FingerprintSet.fingerprint(candidate))) {
+                        return candidate;
+                    }
+                }
+            }
+            for (int attempt = 0; attempt < REGENERATION_ATTEMPTS; attempt++) {
+                Object candidate = field.generator().generate(field.descriptor(), context);
+                if (candidate != null && set.add(fingerprint(candidate))) {
+                    return candidate;
+                }
+            }
+        }
+        throw new IllegalStateException("Не удалось подобрать уникальное значение для поля '" + field.name() +
+                "' за " + REGENERATION_ATTEMPTS + " попыток: занято " + set.size() + " значений");
+    }
+
+    /**
+     * Суффикс вставляется перед {@code @} адреса email, иначе дописывается через дефис.
+     */
+    private static String withSuffix(String value, String suffix) {
+        int at = value.lastIndexOf('@');
+        return at > 0
+                ? value.substring(0, at) + '.' + suffix + value.substring(at)
+                : value + '-' + suffix;
+    }
+
+    private static long fingerprint(Object value) {
+        if (value instanceof CharSequence text) {
+            return FingerprintSet.fingerprint(text);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return FingerprintSet.fingerprint(((Number) value).longValue());
+        }
+        return FingerprintSet.fingerprint(value.toString());
+    }
+}
@@ -1,26 +1,34 @@
 package io.github.victoriasemkina.validated.core;
 
-import io.github.victoriasemkina.validated.generator.primitive.BigDecimalGenerator;
-import io.github.victoriasemkina.validated.generator.primitive.DefaultGenerator;
-import io.github.victoriasemkina.validated.generator.primitive.StringGenerator;
-import io.github.victoriasemkina.validated.generator.semantic.EmailGenerator;
-import io.github.victoriasemkina.validated.generator.temporal.LocalDateGenerator;
-import io.github.victoriasemkina.validated.generator.temporal.LocalDateTimeGenerator;
+import io.github.victoriasemkina.validated.internal.ValidationUtils;
 import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.rule.CompiledRules;
+import io.github.victoriasemkina.validated.rule.FieldValues;
+import io.github.victoriasemkina.validated.rule.Rule;
 import io.github.victoriasemkina.validated.rule.RuleEngine;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
+import jakarta.validation.Path;
 import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
+import jakarta.validation.metadata.PropertyDescriptor;
 
-import java.lang.reflect.Field;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.HashMap;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
-import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Главный класс-билдер для генерации валидных объектов.
@@ -29,27 +37,29 @@ import java.util.ArrayList;
 public class ValidatedBuilder<T> {
 
     private final Class<T> targetClass;
-    private final List<ValueGenerator> generators;
     private final RuleEngine ruleEngine;
     private final Map<String, Object> fieldOverrides = new HashMap<>();
-    private final Validator validator;
-    private static final int MAX_ATTEMPTS = 10;
+    private final Map<String, Integer> fieldRetryBudgets = new HashMap<>();
+    private final Set<String> uniqueFields = new LinkedHashSet<>();
+    private Validator validator;
+    private GeneratorRegistry generators;
+    private GenerationListener listener;
+    private boolean trustGenerators;
+    private int validationSampleRate = 1;
+    private volatile TrustedValidation trustedValidation;
+    private volatile OrderForPlan generationOrder;
+    private Long seed;
+    private Locale locale = GenerationContext.DEFAULT_LOCALE;
+    private Clock clock;
+    private Validator clockValidator;
+    private int retryBudget = DEFAULT_RETRY_BUDGET;
+    private int maxDepth = GenerationContext.DEFAULT_MAX_DEPTH;
+    private static final int DEFAULT_RETRY_BUDGET = 10;
+    private static final int SHARD_SIZE = 256;
 
     private ValidatedBuilder(Class<T> targetClass) {
         this.targetClass = targetClass;
-        this.generators = List.of(
-                new EmailGenerator(),
-                new StringGenerator(),
-                new BigDecimalGenerator(),
-                new LocalDateGenerator(),
-                new LocalDateTimeGenerator(),
-                new DefaultGenerator()
-        );
         this.ruleEngine = new RuleEngine(); // Инициализация движка правил
-
-        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
-            this.validator = factory.getValidator();
-        }
     }
 
     /**
@@ -72,153 +82,802 @@ public class ValidatedBuilder<T> {
         return this;
     }
 
+    /**
+     * Добавляет правило только для этого билдера. Правило, объявившее
+     * {@link Rule#inputs() входы}, меняет порядок генерации: целевое поле
+     * строится после своих входов.
+     * Пример: ValidatedBuilder.forClass(Address.class)
+     *          .withRule(new CityFromCountryRule())
+     *          .buildValid();
+     */
+    public ValidatedBuilder<T> withRule(Rule rule) {
+        ruleEngine.registerRule(Objects.requireNonNull(rule, "Правило не может быть null"));
+        this.generationOrder = null;
+        return this;
+    }
+
+    /**
+     * Регистрирует генератор только для этого билдера (поверх глобального реестра
+     * {@link GeneratorRegistry#global()}). Генератор участвует в том же выборе по
+     * типу и приоритету, что и встроенные; при равном приоритете он побеждает.
+     * Пример: ValidatedBuilder.forClass(Account.class)
+     *          .registerGenerator(new IbanGenerator())
+     *          .buildValid();
+     */
+    public ValidatedBuilder<T> registerGenerator(ValueGenerator generator) {
+        Objects.requireNonNull(generator, "Генератор не может быть null");
+        GeneratorRegistry base = generators != null ? generators : GeneratorRegistry.global();
+        this.generators = base.with(generator);
+        return this;
+    }
+
+    /**
+     * Бюджет попыток по умолчанию: сколько раз можно перегенерировать одно поле,
+     * нарушающее ограничения, и сколько раз строить объект заново при нарушениях
+     * уровня класса. По умолчанию 10.
+     */
+    public ValidatedBuilder<T> withRetryBudget(int attempts) {
+        this.retryBudget = requirePositiveBudget(attempts);
+        return this;
+    }
+
+    /**
+     * Бюджет попыток для конкретного поля (переопределяет бюджет по умолчанию).
+     * Пример: ValidatedBuilder.forClass(Account.class)
+     *          .withRetryBudget("iban", 50)
+     *          .buildValid();
+     */
+    public ValidatedBuilder<T> withRetryBudget(String fieldName, int attempts) {
+        Objects.requireNonNull(fieldName, "Имя поля не может быть null");
+        fieldRetryBudgets.put(fieldName, requirePositiveBudget(attempts));
+        return this;
+    }
+
+    /**
+     * Значения поля не повторяются в пределах пачки ({@link #buildMany}, {@link #iterator()},
+     * {@link #stream()}, параллельные методы) — то же, что аннотация {@link Unique} на поле.
+     * Для проверки хранятся только 64-битные отпечатки значений (около 8–16 байт на объект),
+     * поэтому пачки в сотни миллионов объектов не держат все строки в памяти. Повторяющаяся
+     * строка получает короткий суффикс ({@code anna@company.com} → {@code anna.1@company.com}),
+     * значение другого типа генерируется заново. При параллельной генерации суффикс
+     * может достаться другому из одинаковых значений, чем при последовательной.
+     * Пример: ValidatedBuilder.forClass(User.class)
+     *          .unique("email")
+     *          .buildMany(1_000_000);
+     */
+    public ValidatedBuilder<T> unique(String fieldName) {
+        uniqueFields.add(Objects.requireNonNull(fieldName, "Имя поля не может быть null"));
+        return this;
+    }
+
+    /**
+     * Фиксирует мастер-сид генерации. Сид определяет все случайные решения:
+     * генераторы и правила получают случайность только из {@link GenerationContext}.
+     * При одинаковом сиде результат совпадает бит в бит независимо от того,
+     * строятся ли объекты последовательно или параллельно.
+     * Пример: ValidatedBuilder.forClass(User.class)
+     *          .withSeed(20240101L)
+     *          .buildMany(1_000);
+     */
+    public ValidatedBuilder<T> withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Локаль DataFaker для имён и текстов (по умолчанию английская).
+     * Экземпляры Faker для локали создаются один раз на поток и разделяются всеми билдерами.
+     */
+    public ValidatedBuilder<T> withLocale(Locale locale) {
+        this.locale = Objects.requireNonNull(locale, "Локаль не может быть null");
+        return this;
+    }
+
+    /**
+     * Часы, от которых отсчитываются {@code @Past}, {@code @Future} и другие временные
+     * ограничения (по умолчанию системные). Текущий момент берётся из часов один раз
+     * на пачку, поэтому с фиксированными часами и {@link #withSeed(long) сидом}
+     * даты воспроизводятся. Валидатор по умолчанию проверяет объекты по тем же
+     * часам; валидатор из {@link #withValidator(Validator)} нужно настроить самостоятельно.
+     * Пример: ValidatedBuilder.forClass(Order.class)
+     *          .withClock(Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC))
+     *          .withSeed(42L)
+     *          .buildMany(100);
+     */
+    public ValidatedBuilder<T> withClock(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "Часы не могут быть null");
+        this.clockValidator = null;
+        this.trustedValidation = null;
+        return this;
+    }
+
+    /**
+     * Предел вложенности объектов (по умолчанию 8). Поле, тип которого — класс
+     * приложения (обычный, запись или неизменяемый), заполняется вложенным объектом,
+     * построенным по плану этого класса; объекты глубже {@code depth} уровней
+     * и объекты класса, который уже строится выше по графу (циклы), остаются null.
+     * Значение 0 отключает вложенные объекты.
+     * Пример: ValidatedBuilder.forClass(Order.class)
+     *          .withMaxDepth(3)
+     *          .buildValid();
+     */
+    public ValidatedBuilder<T> withMaxDepth(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Предел вложенности не может быть отрицательным: " + depth);
+        }
+        this.maxDepth = depth;
+        return this;
+    }
+
+    /**
+     * Использует указанный валидатор вместо общего {@link ValidationUtils#defaultValidator()}.
+     */
+    public ValidatedBuilder<T> withValidator(Validator validator) {
+        this.validator = Objects.requireNonNull(validator, "Валидатор не может быть null");
+        this.trustedValidation = null;
+        return this;
+    }
+
+    /**
+     * Подключает наблюдателя за генерацией, например {@link GenerationListener#systemLogger()}.
+     * Без наблюдателя билдер ничего не пишет и не форматирует.
+     */
+    public ValidatedBuilder<T> withListener(GenerationListener listener) {
+        this.listener = Objects.requireNonNull(listener, "Наблюдатель не может быть null");
+        return this;
+    }
+
+    /**
+     * Режим доверенных генераторов: ограничения, которые генератор поля гарантирует
+     * по построению ({@link ValueGenerator#guaranteedConstraints}), не проверяются.
+     * Валидатор вызывается только для непокрытых свойств, для значений из
+     * переопределений и правил, а при ограничениях уровня класса или {@code @Valid} —
+     * для всего объекта. Если все ограничения покрыты, валидация не выполняется вовсе.
+     */
+    public ValidatedBuilder<T> trustGenerators() {
+        this.trustGenerators = true;
+        return this;
+    }
+
+    /**
+     * Выборочная валидация: проверяется только каждый {@code sampleRate}-й объект
+     * пачки, остальные возвращаются без проверки. Значение 1 (по умолчанию) —
+     * проверять каждый объект. Выборка детерминирована и не зависит от числа потоков.
+     */
+    public ValidatedBuilder<T> validateEvery(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Частота выборки должна быть не меньше 1: " + sampleRate);
+        }
+        this.validationSampleRate = sampleRate;
+        return this;
+    }
+
     /**
      * Главный метод: строит экземпляр, гарантированно проходящий валидацию.
      * Использует RuleEngine для контекстной генерации.
      */
     public T buildValid() {
-        System.out.println("=== Генерация объекта класса: " + targetClass.getSimpleName() + " ===");
+        GenerationPlan<T> plan = plan();
+        return generateValid(plan, newContext(plan, masterRandom().split()), null, 0);
+    }
+
+    /**
+     * Строит {@code count} валидных экземпляров.
+     * План генерации, валидатор и генераторы разделяются всей пачкой,
+     * поэтому стоимость одного объекта сводится к генерации значений и валидации.
+     *
+     * @param count количество объектов (не отрицательное)
+     * @return изменяемый список из {@code count} объектов
+     */
+    public List<T> buildMany(int count) {
+        requireNonNegative(count);
+        GenerationPlan<T> plan = plan();
+        Iterator<T> iterator = new ShardedIterator(plan, masterRandom(), uniqueValues(plan, count));
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * Бесконечный итератор валидных объектов. Каждый вызов {@code next()}
+     * строит новый объект по общему для итератора плану генерации.
+     */
+    public Iterator<T> iterator() {
+        GenerationPlan<T> plan = plan();
+        return new ShardedIterator(plan, masterRandom(), uniqueValues(plan, 0));
+    }
+
+    /**
+     * Бесконечный последовательный поток валидных объектов.
+     * Пример: ValidatedBuilder.forClass(User.class)
+     *          .stream()
+     *          .limit(1_000)
+     *          .forEach(repository::save);
+     */
+    public Stream<T> stream() {
+        return Stream.generate(iterator()::next);
+    }
+
+    /**
+     * Строит {@code count} валидных экземпляров на всех доступных ядрах.
+     *
+     * @see #buildManyParallel(int, int)
+     */
+    public List<T> buildManyParallel(int count) {
+        return buildManyParallel(count, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Строит {@code count} валидных экземпляров в собственном {@link ForkJoinPool}.
+     *
+     * <p>Пачка делится на шарды фиксированного размера, и каждый шард получает
+     * свой {@link SplittableRandom}, отщеплённый от мастер-генератора в порядке
+     * номеров шардов. Разбиение не зависит от {@code parallelism}, поэтому при
+     * заданном {@link #withSeed(long) сиде} результат совпадает с {@link #buildMany(int)}
+     * при любом количестве потоков.
+     *
+     * @param count       количество объектов (не отрицательное)
+     * @param parallelism количество рабочих потоков (не меньше 1)
+     * @return список объектов в том же порядке, что и при последовательной генерации
+     */
+    public List<T> buildManyParallel(int count, int parallelism) {
+        requireNonNegative(count);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Параллелизм должен быть не меньше 1: " + parallelism);
+        }
+
+        GenerationPlan<T> plan = plan();
+        UniqueValues unique = uniqueValues(plan, count);
+        SplittableRandom[] shards = splitShards(count);
+        List<Callable<List<T>>> tasks = new ArrayList<>(shards.length);
+        for (int shard = 0; shard < shards.length; shard++) {
+            int index = shard;
+            tasks.add(() -> generateShard(plan, shards[index], index, shardSize(count, index), unique));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<T> result = new ArrayList<>(count);
+            for (Future<List<T>> future : pool.invokeAll(tasks)) {
+                result.addAll(future.get());
+            }
+            return result;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Ошибка параллельной генерации объектов класса " +
+                    targetClass.getName(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Параллельная генерация прервана", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
 
-        List<FieldDescriptor> fields = scanFields();
-        System.out.println("Найдено полей: " + fields.size());
+    /**
+     * Параллельный упорядоченный поток из {@code count} валидных объектов
+     * (в общем {@link ForkJoinPool}). Разбиение на шарды такое же, как
+     * в {@link #buildManyParallel(int, int)}.
+     */
+    public Stream<T> parallelStream(int count) {
+        requireNonNegative(count);
+        GenerationPlan<T> plan = plan();
+        UniqueValues unique = uniqueValues(plan, count);
+        SplittableRandom[] shards = splitShards(count);
+        return IntStream.range(0, shards.length)
+                .parallel()
+                .mapToObj(shard -> generateShard(plan, shards[shard], shard, shardSize(count, shard), unique))
+                .flatMap(List::stream);
+    }
+
+    private static void markUntrusted(List<String> untrustedFields, FieldDescriptor field) {
+        if (untrustedFields != null) {
+            untrustedFields.add(field.name());
+        }
+    }
+
+    /**
+     * План генерации: общий закэшированный или, если у билдера есть свои генераторы,
+     * закэшированный в их реестре (там же лежат планы вложенных классов).
+     */
+    private GenerationPlan<T> plan() {
+        return generators == null
+                ? GenerationPlan.forClass(targetClass)
+                : GenerationPlan.forClass(targetClass, generators);
+    }
+
+    /**
+     * Порядок полей и правила для плана: для правил по умолчанию берётся из плана,
+     * для правил билдера вычисляется здесь и запоминается до смены плана или правил.
+     */
+    private GenerationPlan.GenerationOrder generationOrder(GenerationPlan<T> plan) {
+        OrderForPlan order = generationOrder;
+        if (order == null || order.plan() != plan) {
+            order = new OrderForPlan(plan, plan.order(ruleEngine));
+            generationOrder = order;
+        }
+        return order.order();
+    }
+
+    /**
+     * Уникальность полей для новой пачки или null, если уникальных полей нет.
+     *
+     * @param expectedSize размер пачки (0, если неизвестен)
+     * @throws IllegalArgumentException если через {@link #unique(String)} указано несуществующее поле
+     */
+    private UniqueValues uniqueValues(GenerationPlan<T> plan, int expectedSize) {
+        for (String fieldName : uniqueFields) {
+            if (plan.field(fieldName) == null) {
+                throw new IllegalArgumentException("Поле '" + fieldName + "' не найдено в классе " +
+                        targetClass.getName());
+            }
+        }
+        return UniqueValues.create(plan.fields(), uniqueFields, expectedSize);
+    }
+
+    private TrustedValidation trustedValidation(GenerationPlan<T> plan) {
+        TrustedValidation analysis = trustedValidation;
+        if (analysis == null || !analysis.isFor(plan)) {
+            analysis = TrustedValidation.analyze(plan, validator());
+            trustedValidation = analysis;
+        }
+        return analysis;
+    }
+
+    private Validator validator() {
+        if (validator != null) {
+            return validator;
+        }
+        if (clock == null) {
+            return ValidationUtils.defaultValidator();
+        }
+        Validator withClock = clockValidator;
+        if (withClock == null) {
+            withClock = ValidationUtils.validatorWithClock(clock);
+            clockValidator = withClock;
+        }
+        return withClock;
+    }
+
+    private GenerationContext newContext(GenerationPlan<T> plan, SplittableRandom random) {
+        GenerationContext context = clock != null
+                ? new GenerationContext(random, locale, clock)
+                : new GenerationContext(random, locale);
+        context.startGraph(targetClass, plan.generators(), maxDepth);
+        return context;
+    }
+
+    private SplittableRandom masterRandom() {
+        return seed != null ? new SplittableRandom(seed) : new SplittableRandom();
+    }
+
+    /**
+     * Отщепляет генераторы для всех шардов строго по порядку, чтобы результат
+     * не зависел от того, в каком потоке и когда будет обработан шард.
+     */
+    private SplittableRandom[] splitShards(int count) {
+        SplittableRandom master = masterRandom();
+        SplittableRandom[] shards = new SplittableRandom[(count + SHARD_SIZE - 1) / SHARD_SIZE];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = master.split();
+        }
+        return shards;
+    }
+
+    private static int shardSize(int count, int shard) {
+        return Math.min(SHARD_SIZE, count - shard * SHARD_SIZE);
+    }
+
+    private List<T> generateShard(GenerationPlan<T> plan, SplittableRandom random, int shard, int size,
+                                  UniqueValues unique) {
+        GenerationContext context = newContext(plan, random);
+        long first = (long) shard * SHARD_SIZE;
+        List<T> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(generateValid(plan, context, unique, first + i));
+        }
+        return result;
+    }
+
+    private static int requirePositiveBudget(int attempts) {
+        if (attempts < 1) {
+            throw new IllegalArgumentException("Бюджет попыток должен быть не меньше 1: " + attempts);
+        }
+        return attempts;
+    }
+
+    private static void requireNonNegative(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Количество объектов не может быть отрицательным: " + count);
+        }
+    }
+
+    /**
+     * Порядок генерации вместе с планом, для которого он построен.
+     */
+    private record OrderForPlan(GenerationPlan<?> plan, GenerationPlan.GenerationOrder order) {
+    }
+
+    /**
+     * Последовательный итератор с тем же разбиением на шарды, что и у параллельной
+     * генерации: каждые {@link #SHARD_SIZE} объектов берётся новый отщеплённый генератор.
+     */
+    private final class ShardedIterator implements Iterator<T> {
+        private final GenerationPlan<T> plan;
+        private final SplittableRandom master;
+        private final UniqueValues unique;
+        private GenerationContext context;
+        private long generated;
+
+        private ShardedIterator(GenerationPlan<T> plan, SplittableRandom master, UniqueValues unique) {
+            this.plan = plan;
+            this.master = master;
+            this.unique = unique;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (generated % SHARD_SIZE == 0) {
+                context = newContext(plan, master.split());
+            }
+            return generateValid(plan, context, unique, generated++);
+        }
+    }
+
+    /**
+     * Генерирует один валидный объект по готовому плану.
+     * При нарушениях валидации перегенерируются только поля-нарушители
+     * (см. {@link #repairFields}); объект целиком строится заново лишь тогда,
+     * когда нарушение нельзя привязать к конкретному полю.
+     *
+     * @param objectIndex номер объекта в пачке: по нему выбираются объекты для
+     *                    {@link #validateEvery выборочной валидации}
+     */
+    private T generateValid(GenerationPlan<T> plan, GenerationContext context, UniqueValues unique, long objectIndex) {
+        GenerationPlan.GenerationOrder order = generationOrder(plan);
+        List<GenerationPlan.PlannedField> fields = order.fields();
+        CompiledRules rules = order.rules();
+        boolean validate = objectIndex % validationSampleRate == 0;
+        TrustedValidation trusted = validate && trustGenerators ? trustedValidation(plan) : null;
+
+        // Исключение последней сорвавшейся попытки — причина итоговой ошибки
+        Exception lastFailure = null;
 
         // Цикл попыток генерации валидного объекта
-        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
-            System.out.println("Попытка генерации #" + attempt);
+        for (int attempt = 1; attempt <= retryBudget; attempt++) {
+            if (listener != null) {
+                listener.onAttempt(targetClass, attempt);
+            }
 
+            T instance;
+            FieldValues generationContext = context.fieldValues(rules); // Контекст для правил
+            List<String> untrustedFields = trusted != null ? new ArrayList<>() : null;
+            // Уникальные поля, значение которых заменено суффиксом или перегенерацией
+            List<String> replacedUnique = null;
+            // Для записей и неизменяемых классов значения копятся до вызова конструктора
+            Object[] values = plan.hasCreator() ? new Object[fields.size()] : null;
             try {
-                T instance = targetClass.getDeclaredConstructor().newInstance();
-                Map<String, Object> generationContext = new HashMap<>(); // Контекст для правил
+                instance = values == null ? plan.newInstance() : null;
 
                 // 1. Генерация значений для всех полей
-                for (FieldDescriptor field : fields) {
-                    Object value;
+                for (int index = 0; index < fields.size(); index++) {
+                    GenerationPlan.PlannedField planned = fields.get(index);
+                    FieldDescriptor field = planned.descriptor();
+                    Object value = null;
+                    GenerationListener.Source source = null;
 
                     // A. Проверяем ручные переопределения
                     if (fieldOverrides.containsKey(field.name())) {
                         value = fieldOverrides.get(field.name());
+                        source = GenerationListener.Source.OVERRIDE;
+                        markUntrusted(untrustedFields, field);
                     }
-                    // B. Пробуем применить правило (если есть контекст)
-                    else if (!generationContext.isEmpty()) {
-                        Optional<Object> ruleResult = ruleEngine.applyRules(field, generationContext);
-                        if (ruleResult.isPresent()) {
-                            value = ruleResult.get();
-                            System.out.println("  [ПРАВИЛО] поле " + field.name() + " = " + value);
-                        } else {
-                            // C. Используем обычный генератор
-                            ValueGenerator generator = findGenerator(field);
-                            value = generator.generate(field);
+                    // B. Пробуем применить правило (если есть контекст и правила-кандидаты)
+                    else if (index > 0 && rules.hasCandidates(index)) {
+                        value = rules.apply(index, field, generationContext, context);
+                        if (value != null) {
+                            source = GenerationListener.Source.RULE;
+                            markUntrusted(untrustedFields, field);
                         }
                     }
-                    // C. Для первого поля или если правил нет - обычный генератор
-                    else {
-                        ValueGenerator generator = findGenerator(field);
-                        value = generator.generate(field);
+
+                    // C. Обычный генератор, если ни переопределения, ни правила не сработали
+                    if (source == null) {
+                        // Значение примитива, которое не нужно ни правилам, ни наблюдателю,
+                        // генерируется и записывается в поле без упаковки
+                        if (planned.primitiveWriter() != null && listener == null && !rules.isRead(index)
+                                && (unique == null || !unique.tracks(planned))) {
+                            // primitiveWriter есть только у планов без конструктора-создателя
+                            planned.primitiveWriter().write(instance, context);
+                            continue;
+                        }
+                        value = planned.generator().generate(field, context);
+                        source = GenerationListener.Source.GENERATOR;
                     }
 
-                    // Сохраняем значение в контекст для следующих полей
-                    generationContext.put(field.name(), value);
+                    // Повтор уникального поля заменяется; замена проверяется даже вне выборки
+                    if (unique != null && unique.tracks(planned)) {
+                        Object claimed = unique.claim(planned, value, context);
+                        if (claimed != value) {
+                            value = claimed;
+                            markUntrusted(untrustedFields, field);
+                            if (replacedUnique == null) {
+                                replacedUnique = new ArrayList<>();
+                            }
+                            replacedUnique.add(field.name());
+                        }
+                    }
 
-                    // Устанавливаем значение в объект
-                    Field javaField = targetClass.getDeclaredField(field.name());
-                    javaField.setAccessible(true);
-                    javaField.set(instance, value);
+                    // Сохраняем значение в контекст для следующих полей (слот = номер поля)
+                    generationContext.set(index, value);
 
-                    // Логируем установленные значения (кроме тех, что уже залогированы правилами)
-                    if (!fieldOverrides.containsKey(field.name()) &&
-                            !ruleEngine.applyRules(field, generationContext).isPresent()) {
-                        String displayValue = formatValueForDisplay(value);
-                        System.out.println("  Установлено поле " + field.name() + " = " + displayValue);
+                    // Устанавливаем значение в объект (или откладываем до конструктора)
+                    if (values != null) {
+                        values[planned.position()] = value;
+                    } else {
+                        planned.accessor().set(instance, value);
                     }
-                }
 
-                // 2. ВАЛИДАЦИЯ: проверяем объект
-                Set<ConstraintViolation<T>> violations = validator.validate(instance);
-
-                if (violations.isEmpty()) {
-                    System.out.println("=== Объект успешно создан и валидирован ===");
-                    return instance; // Успех!
-                } else {
-                    // Если есть нарушения, логируем и пробуем снова
-                    System.out.println("  Нарушения валидации: ");
-                    for (ConstraintViolation<T> violation : violations) {
-                        System.out.println("    - " + violation.getPropertyPath() + ": " + violation.getMessage());
+                    if (listener != null) {
+                        listener.onFieldGenerated(targetClass, field, value, source);
                     }
                 }
-
+                if (values != null) {
+                    instance = plan.create(values);
+                }
             } catch (Exception e) {
-                System.err.println("Ошибка при создании объекта в попытке #" + attempt + ": " + e.getMessage());
+                if (listener != null) {
+                    listener.onAttemptFailed(targetClass, attempt, e);
+                }
+                lastFailure = e;
                 // Продолжаем попытки
+                continue;
+            }
+
+            // 2. ВАЛИДАЦИЯ: проверяем объект (целиком, выборочно или только непокрытое)
+            Set<ConstraintViolation<T>> violations;
+            if (validate) {
+                violations = trusted != null
+                        ? trusted.validate(validator(), instance, untrustedFields)
+                        : validator().validate(instance);
+            } else if (replacedUnique != null) {
+                // Суффикс уникальности мог нарушить @Size или @Pattern поля
+                violations = new HashSet<>();
+                for (String fieldName : replacedUnique) {
+                    violations.addAll(validateField(instance, fieldName));
+                }
+            } else {
+                return created(instance);
+            }
+
+            if (violations.isEmpty()) {
+                return created(instance); // Успех!
+            }
+
+            // Если есть нарушения, чиним только нарушающие поля
+            if (listener != null) {
+                listener.onViolations(targetClass, violations);
+            }
+            T repaired = repairFields(plan, order, instance, values, violations, generationContext, context, unique);
+            if (repaired != null) {
+                return created(repaired);
             }
         }
 
         // Если все попытки исчерпаны
         throw new IllegalStateException("Не удалось сгенерировать валидный объект класса " +
-                targetClass.getName() + " после " + MAX_ATTEMPTS + " попыток");
+                targetClass.getName() + " после " + retryBudget + " попыток", lastFailure);
+    }
+
+    private T created(T instance) {
+        if (listener != null) {
+            listener.onObjectCreated(targetClass, instance);
+        }
+        return instance;
     }
 
     /**
-     * Сканирует поля класса и создаёт их описания.
+     * Перегенерирует только поля, на которые указывают нарушения, сохраняя остальные значения.
+     * Поля, которые правила выводят из заменённых (например, email из имени), выводятся
+     * заново теми же правилами. После замены поля проверяются через {@link Validator#validateProperty}.
+     * Объект, созданный конструктором-создателем, после замены значений создаётся заново.
+     *
+     * @param values значения полей для конструктора-создателя или null, если поля записываются в объект
+     * @return исправленный объект; null, если нарушение не привязано к полю
+     *         (ограничение уровня класса) и объект нужно строить заново
+     * @throws IllegalStateException если переопределённое значение невалидно или
+     *                               у поля исчерпан бюджет попыток
      */
-    private List<FieldDescriptor> scanFields() {
-        List<FieldDescriptor> descriptors = new ArrayList<>();
-        Field[] fields = targetClass.getDeclaredFields();
+    private T repairFields(GenerationPlan<T> plan, GenerationPlan.GenerationOrder order, T instance,
+                           Object[] values, Set<ConstraintViolation<T>> violations,
+                           FieldValues generationContext, GenerationContext context, UniqueValues unique) {
+        Map<String, Integer> attemptsByField = new HashMap<>();
+        Set<ConstraintViolation<T>> current = violations;
+
+        while (!current.isEmpty()) {
+            List<GenerationPlan.PlannedField> offending = new ArrayList<>();
+            for (ConstraintViolation<T> violation : current) {
+                GenerationPlan.PlannedField field = offendingField(plan, violation);
+                if (field == null) {
+                    return null;
+                }
+                if (fieldOverrides.containsKey(field.name())) {
+                    throw new IllegalStateException("Переопределённое значение поля '" + field.name() +
+                            "' класса " + targetClass.getName() + " не проходит валидацию: " +
+                            violation.getMessage());
+                }
+                if (!offending.contains(field)) {
+                    offending.add(field);
+                }
+            }
 
-        for (Field field : fields) {
-            descriptors.add(FieldDescriptor.from(field));
-        }
+            for (GenerationPlan.PlannedField field : offending) {
+                int attempts = attemptsByField.merge(field.name(), 1, Integer::sum);
+                int budget = fieldRetryBudgets.getOrDefault(field.name(), retryBudget);
+                if (attempts > budget) {
+                    throw new IllegalStateException("Не удалось подобрать валидное значение для поля '" +
+                            field.name() + "' класса " + targetClass.getName() + " за " + budget +
+                            " попыток: " + describe(current, field.name()));
+                }
 
-        // Сортируем поля по приоритету зависимостей:
-        // 1. Поля с именем (зависимости) → самые первые
-        // 2. Email-поля (зависимые) → после имени
-        // 3. Остальные → в алфавитном порядке
-        descriptors.sort((f1, f2) -> {
-            String n1 = f1.name().toLowerCase();
-            String n2 = f2.name().toLowerCase();
+                Object value = field.generator().generate(field.descriptor(), context);
+                if (unique != null && unique.tracks(field)) {
+                    value = unique.claim(field, value, context);
+                }
+                generationContext.put(field.name(), value);
+                if (values != null) {
+                    values[field.position()] = value;
+                } else {
+                    field.accessor().set(instance, value);
+                }
+                if (listener != null) {
+                    listener.onFieldGenerated(targetClass, field.descriptor(), value,
+                            GenerationListener.Source.REPAIR);
+                }
+            }
+            List<GenerationPlan.PlannedField> derived =
+                    rederive(order, offending, instance, values, generationContext, context, unique);
+            if (values != null) {
+                try {
+                    instance = plan.create(values);
+                } catch (RuntimeException e) {
+                    // Конструктор отверг новые значения: объект строится заново
+                    return null;
+                }
+            }
 
-            boolean isName1 = n1.contains("name") || n1.contains("first") || n1.contains("last");
-            boolean isName2 = n2.contains("name") || n2.contains("first") || n2.contains("last");
-            if (isName1 && !isName2) return -1;
-            if (!isName1 && isName2) return 1;
+            Set<ConstraintViolation<T>> remaining = new HashSet<>();
+            for (GenerationPlan.PlannedField field : offending) {
+                remaining.addAll(validateField(instance, field.name()));
+            }
+            for (GenerationPlan.PlannedField field : derived) {
+                remaining.addAll(validateField(instance, field.name()));
+            }
+            current = remaining;
+        }
 
-            boolean isEmail1 = n1.contains("email") || n1.contains("mail");
-            boolean isEmail2 = n2.contains("email") || n2.contains("mail");
-            if (isEmail1 && !isEmail2) return 1;   // email позже
-            if (!isEmail1 && isEmail2) return -1;  // не-email раньше
+        // Замена полей могла нарушить ограничения уровня класса
+        boolean valid = validator().getConstraintsForClass(targetClass).getConstraintDescriptors().isEmpty()
+                || validator().validate(instance).isEmpty();
+        return valid ? instance : null;
+    }
 
-            return n1.compareTo(n2);
-        });
+    /**
+     * Заново применяет правила к полям, которые генерируются после исправленных и могут
+     * читать их значения ({@link CompiledRules#dependsOn}), — в порядке генерации, поэтому
+     * цепочки выводов тоже пересчитываются. Переопределённые поля не меняются; если
+     * правило больше не срабатывает, у поля остаётся прежнее значение.
+     *
+     * @return поля, получившие новое значение от правил
+     */
+    private List<GenerationPlan.PlannedField> rederive(GenerationPlan.GenerationOrder order,
+                                                       List<GenerationPlan.PlannedField> repaired,
+                                                       T instance, Object[] values, FieldValues generationContext,
+                                                       GenerationContext context, UniqueValues unique) {
+        List<GenerationPlan.PlannedField> fields = order.fields();
+        CompiledRules rules = order.rules();
+        boolean[] changed = new boolean[fields.size()];
+        int first = fields.size();
+        for (GenerationPlan.PlannedField field : repaired) {
+            int slot = fields.indexOf(field);
+            changed[slot] = true;
+            first = Math.min(first, slot);
+        }
 
-        return descriptors;
+        List<GenerationPlan.PlannedField> derived = new ArrayList<>();
+        for (int slot = first + 1; slot < fields.size(); slot++) {
+            GenerationPlan.PlannedField field = fields.get(slot);
+            if (changed[slot] || fieldOverrides.containsKey(field.name()) || !dependsOnChanged(rules, slot, changed)) {
+                continue;
+            }
+            Object value = rules.apply(slot, field.descriptor(), generationContext, context);
+            if (value == null) {
+                continue;
+            }
+            if (unique != null && unique.tracks(field)) {
+                value = unique.claim(field, value, context);
+            }
+            changed[slot] = true;
+            generationContext.set(slot, value);
+            if (values != null) {
+                values[field.position()] = value;
+            } else {
+                field.accessor().set(instance, value);
+            }
+            if (listener != null) {
+                listener.onFieldGenerated(targetClass, field.descriptor(), value, GenerationListener.Source.RULE);
+            }
+            derived.add(field);
+        }
+        return derived;
+    }
+
+    private static boolean dependsOnChanged(CompiledRules rules, int slot, boolean[] changed) {
+        for (int input = 0; input < slot; input++) {
+            if (changed[input] && rules.dependsOn(slot, input)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Находит подходящий генератор для поля.
+     * Проверяет одно поле. {@link Validator#validateProperty} не спускается по {@code @Valid},
+     * поэтому каскадное поле (вложенный объект) проверяется вместе со всем объектом,
+     * и из результата берутся только нарушения внутри этого поля.
      */
-    private ValueGenerator findGenerator(FieldDescriptor descriptor) {
-        return generators.stream()
-                .filter(g -> g.supports(descriptor))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "No generator found for field: " + descriptor.name()
-                ));
+    private Set<ConstraintViolation<T>> validateField(T instance, String fieldName) {
+        PropertyDescriptor property = validator().getConstraintsForClass(targetClass)
+                .getConstraintsForProperty(fieldName);
+        if (property == null || !property.isCascaded()) {
+            return validator().validateProperty(instance, fieldName);
+        }
+        Set<ConstraintViolation<T>> violations = new HashSet<>();
+        for (ConstraintViolation<T> violation : validator().validate(instance)) {
+            if (fieldName.equals(propertyName(violation))) {
+                violations.add(violation);
+            }
+        }
+        return violations;
     }
 
     /**
-     * Форматирует значение для отображения в логах.
+     * Поле плана, к которому относится нарушение (первый узел пути свойства),
+     * или null для ограничений уровня класса.
      */
-    private String formatValueForDisplay(Object value) {
-        if (value == null) {
-            return "null";
-        }
+    private static GenerationPlan.PlannedField offendingField(GenerationPlan<?> plan,
+                                                             ConstraintViolation<?> violation) {
+        String name = propertyName(violation);
+        return name != null ? plan.field(name) : null;
+    }
 
-        String strValue = String.valueOf(value);
+    /**
+     * Имя поля корневого объекта из пути нарушения или null для ограничений уровня класса.
+     */
+    private static String propertyName(ConstraintViolation<?> violation) {
+        Iterator<Path.Node> nodes = violation.getPropertyPath().iterator();
+        return nodes.hasNext() ? nodes.next().getName() : null;
+    }
 
-        // Сокращаем длинные строки для удобства чтения
-        if (strValue.length() > 50) {
-            return strValue.substring(0, 47) + "...";
+    private static String describe(Set<? extends ConstraintViolation<?>> violations, String fieldName) {
+        StringBuilder messages = new StringBuilder();
+        for (ConstraintViolation<?> violation : violations) {
+            if (fieldName.equals(propertyName(violation))) {
+                if (messages.length() > 0) {
+                    messages.append("; ");
+                }
+                messages.append(violation.getMessage());
+            }
         }
-
-        return strValue;
+        return messages.toString();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,9 @@
 package io.github.victoriasemkina.validated.core;
 import io.github.victoriasemkina.validated.model.FieldDescriptor;
 
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
 /**
  * Интерфейс для генераторов значений.
  *
@@ -9,9 +12,66 @@ import io.github.victoriasemkina.validated.model.FieldDescriptor;
  *   <li>{@code generator.primitive} — примитивы и простые типы</li>
  *   <li>{@code generator.temporal} — даты и время</li>
  *   <li>{@code generator.semantic} — семантические типы (email)</li>
+ *   <li>{@code generator.container} — коллекции, {@code Map} и массивы</li>
  * </ul>
+ *
+ * <p>Случайные значения берутся из {@link GenerationContext}, а не из общих
+ * {@code Random}: у каждого потока свой контекст, поэтому один экземпляр
+ * генератора можно использовать из нескольких потоков без конкуренции.
  */
 public interface ValueGenerator {
+
+    /**
+     * Приоритет обычного генератора.
+     */
+    int DEFAULT_PRIORITY = 0;
+
+    /**
+     * Приоритет генератора «последней надежды», который поддерживает любые поля.
+     */
+    int FALLBACK_PRIORITY = Integer.MIN_VALUE;
+
     boolean supports(FieldDescriptor descriptor);
+
+    /**
+     * Приоритет генератора (чем выше, тем раньше опрашивается). При равных
+     * приоритетах побеждает генератор, зарегистрированный позже, поэтому
+     * собственный генератор с приоритетом по умолчанию заменяет встроенный
+     * для того же типа. По умолчанию {@link #DEFAULT_PRIORITY}.
+     */
+    default int priority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    /**
+     * Точные типы полей, которые может обслуживать генератор. По этим типам
+     * {@link GeneratorRegistry} строит индекс и вызывает {@link #supports} только
+     * у генераторов нужного типа. Пустое множество (по умолчанию) означает
+     * «любой тип»: такой генератор проверяется для каждого поля.
+     */
+    default Set<Class<?>> supportedTypes() {
+        return Set.of();
+    }
+
     Object generate(FieldDescriptor descriptor);
-}
\ No newline at end of file
+
+    /**
+     * Генерирует значение, беря случайность из {@code context}. Генераторы, которым
+     * нужна воспроизводимость по сиду и работа без конкуренции между потоками,
+     * переопределяют этот метод; встроенные генераторы переопределяют оба.
+     * По умолчанию делегирует в {@link #generate(FieldDescriptor)}, поэтому
+     * генераторы, написанные до появления контекста, работают без изменений.
+     */
+    default Object generate(FieldDescriptor descriptor, GenerationContext context) {
+        return generate(descriptor);
+    }
+
+    /**
+     * Ограничения Bean Validation, которые генератор гарантирует для поля по построению.
+     * В режиме {@link ValidatedBuilder#trustGenerators()} такие ограничения не проверяются
+     * валидатором. По умолчанию генератор ничего не гарантирует.
+     */
+    default Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        return Set.of();
+    }
+}
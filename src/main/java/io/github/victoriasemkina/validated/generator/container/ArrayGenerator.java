@@ -0,0 +1,113 @@
+package io.github.victoriasemkina.validated.generator.container;
+
+import io.github.victoriasemkina.validated.core.BooleanValueGenerator;
+import io.github.victoriasemkina.validated.core.DoubleValueGenerator;
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.core.IntValueGenerator;
+import io.github.victoriasemkina.validated.core.LongValueGenerator;
+import io.github.victoriasemkina.validated.core.ValueGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Генератор массивов любого типа элемента.
+ *
+ * <p>Размер берётся из {@code @Size}/{@code @NotEmpty} ({@link ContainerSize}),
+ * элемент — из {@link FieldDescriptor#componentType()} с его type-use аннотациями.
+ * Массивы {@code int[]}, {@code long[]}, {@code double[]} и {@code boolean[]},
+ * элемент которых обслуживает {@link IntValueGenerator} (или аналог), заполняются
+ * без упаковки; массивы ссылок — прямой записью в {@code Object[]}. Через
+ * {@link Array#set} пишутся только остальные примитивные массивы.
+ */
+public final class ArrayGenerator implements ValueGenerator {
+
+    private final Map<FieldDescriptor, Shape> shapes = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(FieldDescriptor descriptor) {
+        return descriptor.type().isArray();
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor) {
+        return generate(descriptor, GenerationContext.unseeded());
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
+        Shape shape = shapes.get(descriptor);
+        if (shape == null) {
+            shape = new Shape(ContainerSize.of(descriptor), new ContainerElement(descriptor.componentType()));
+            shapes.putIfAbsent(descriptor, shape);
+        }
+        int size = shape.size().next(context.random());
+        ContainerElement element = shape.element();
+        FieldDescriptor component = element.descriptor();
+        Class<?> type = component.type();
+        ValueGenerator generator = element.generator(context);
+
+        if (type == int.class && generator instanceof IntValueGenerator ints) {
+            int[] array = new int[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = ints.generateInt(component, context);
+            }
+            return array;
+        }
+        if (type == long.class && generator instanceof LongValueGenerator longs) {
+            long[] array = new long[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = longs.generateLong(component, context);
+            }
+            return array;
+        }
+        if (type == double.class && generator instanceof DoubleValueGenerator doubles) {
+            double[] array = new double[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = doubles.generateDouble(component, context);
+            }
+            return array;
+        }
+        if (type == boolean.class && generator instanceof BooleanValueGenerator booleans) {
+            boolean[] array = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = booleans.generateBoolean(component, context);
+            }
+            return array;
+        }
+
+        Object array = Array.newInstance(type, size);
+        if (array instanceof Object[] references) {
+            for (int i = 0; i < size; i++) {
+                references[i] = generator.generate(component, context);
+            }
+        } else {
+            // Элемент без значения (null) остаётся нулевым значением примитива
+            for (int i = 0; i < size; i++) {
+                Object value = generator.generate(component, context);
+                if (value != null) {
+                    Array.set(array, i, value);
+                }
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Длина массива всегда в границах {@code @Size}.
+     */
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        return Set.of(NotNull.class, Size.class, NotEmpty.class);
+    }
+
+    private record Shape(ContainerSize size, ContainerElement element) {
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.victoriasemkina.validated.generator.container;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.core.ValueGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Генератор для {@code List}, {@code Set} и {@code Collection} с известным типом элемента.
+ *
+ * <p>Размер выбирается из {@code @Size}/{@code @NotEmpty} поля ({@link ContainerSize}),
+ * а каждый элемент строится генератором, выбранным для описания элемента с его
+ * type-use аннотациями ({@link FieldDescriptor#typeArgument(int)}), например
+ * {@code List<@Email String>}. Коллекция создаётся сразу нужной ёмкости.
+ * Размер и описание элемента вычисляются один раз для описания поля.
+ *
+ * <p>Для множеств повторяющиеся элементы перегенерируются, но не бесконечно:
+ * если элемент не может принимать столько различных значений, множество
+ * получится меньше, и нарушение {@code @Size} поймает валидация.
+ */
+public final class CollectionGenerator implements ValueGenerator {
+
+    private static final Set<Class<?>> SETS = Set.of(Set.class, HashSet.class, LinkedHashSet.class);
+    private static final Set<Class<?>> TYPES = Set.of(Collection.class, List.class, ArrayList.class,
+            Set.class, HashSet.class, LinkedHashSet.class);
+
+    /**
+     * Сколько раз на элемент можно перегенерировать повтор в множестве.
+     */
+    private static final int UNIQUE_ATTEMPTS = 10;
+
+    private final Map<FieldDescriptor, Shape> shapes = new ConcurrentHashMap<>();
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return TYPES;
+    }
+
+    @Override
+    public boolean supports(FieldDescriptor descriptor) {
+        return TYPES.contains(descriptor.type()) && descriptor.typeArgument(0) != null;
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor) {
+        return generate(descriptor, GenerationContext.unseeded());
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
+        Shape shape = shapes.get(descriptor);
+        if (shape == null) {
+            shape = new Shape(ContainerSize.of(descriptor), new ContainerElement(descriptor.typeArgument(0)));
+            shapes.putIfAbsent(descriptor, shape);
+        }
+        int size = shape.size().next(context.random());
+        ContainerElement element = shape.element();
+
+        if (SETS.contains(descriptor.type())) {
+            Set<Object> set = new LinkedHashSet<>(capacity(size));
+            int attempts = size * UNIQUE_ATTEMPTS;
+            while (set.size() < size && attempts-- > 0) {
+                set.add(element.next(context));
+            }
+            return set;
+        }
+
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(element.next(context));
+        }
+        return list;
+    }
+
+    /**
+     * Размер списка всегда в границах {@code @Size}; размер множества может
+     * оказаться меньше из-за повторов, поэтому для него гарантируется только {@code @NotNull}.
+     */
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        return SETS.contains(descriptor.type())
+                ? Set.of(NotNull.class)
+                : Set.of(NotNull.class, Size.class, NotEmpty.class);
+    }
+
+    /**
+     * Ёмкость хэш-таблицы, при которой {@code size} элементов помещаются без перестроения.
+     */
+    static int capacity(int size) {
+        return (int) Math.ceil(size / 0.75);
+    }
+
+    private record Shape(ContainerSize size, ContainerElement element) {
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.victoriasemkina.validated.generator.container;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.core.GeneratorRegistry;
+import io.github.victoriasemkina.validated.core.ValueGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+
+/**
+ * Описание элемента контейнера вместе с генератором, выбранным для него
+ * в реестре контекста ({@link GenerationContext#generators()}). Выбор
+ * запоминается и повторяется только при смене реестра, поэтому генерация
+ * элемента не требует поиска генератора.
+ */
+final class ContainerElement {
+
+    private final FieldDescriptor descriptor;
+    private volatile Resolved resolved;
+
+    ContainerElement(FieldDescriptor descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    FieldDescriptor descriptor() {
+        return descriptor;
+    }
+
+    ValueGenerator generator(GenerationContext context) {
+        GeneratorRegistry registry = context.generators();
+        Resolved current = resolved;
+        if (current == null || current.registry() != registry) {
+            current = new Resolved(registry, registry.resolve(descriptor));
+            resolved = current;
+        }
+        return current.generator();
+    }
+
+    Object next(GenerationContext context) {
+        return generator(context).generate(descriptor, context);
+    }
+
+    private record Resolved(GeneratorRegistry registry, ValueGenerator generator) {
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.victoriasemkina.validated.generator.container;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+/**
+ * Допустимое число элементов контейнера {@code [lower, upper]}, выведенное из
+ * {@code @Size} и {@code @NotEmpty}. Без {@code @Size} контейнер содержит от
+ * 1 до {@value #SPAN} элементов; неограниченный сверху {@code @Size} даёт
+ * окно шириной {@value #SPAN} от нижней границы.
+ */
+record ContainerSize(int lower, int upper) {
+
+    static final int SPAN = 5;
+
+    static ContainerSize of(FieldDescriptor descriptor) {
+        Optional<Size> size = descriptor.getSizeConstraint();
+        int lower = size.map(Size::min).orElse(1);
+        if (descriptor.hasConstraint(NotEmpty.class)) {
+            lower = Math.max(lower, 1);
+        }
+        int max = size.map(Size::max).orElse(Integer.MAX_VALUE);
+        int upper = (int) Math.min(max, (long) lower + SPAN);
+        if (lower < 0 || lower > upper) {
+            throw new IllegalStateException("Конфликт ограничений на поле '" + descriptor.name() +
+                    "': нет допустимого размера в диапазоне [" + lower + ", " + max + "]");
+        }
+        return new ContainerSize(lower, upper);
+    }
+
+    int next(RandomGenerator random) {
+        return lower == upper ? lower : random.nextInt(lower, upper + 1);
+    }
+}
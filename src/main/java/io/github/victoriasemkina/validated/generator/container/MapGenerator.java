@@ -0,0 +1,82 @@
+package io.github.victoriasemkina.validated.generator.container;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.core.ValueGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.constraints.NotNull;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Генератор для {@code Map} с известными типами ключа и значения
+ * ({@code Map<@NotBlank String, @Positive Integer>}).
+ *
+ * <p>Размер берётся из {@code @Size}/{@code @NotEmpty} ({@link ContainerSize}), таблица
+ * создаётся сразу нужной ёмкости. Повторяющиеся ключи перегенерируются ограниченное
+ * число раз, как элементы множеств в {@link CollectionGenerator}.
+ */
+public final class MapGenerator implements ValueGenerator {
+
+    private static final Set<Class<?>> MAPS = Set.of(Map.class, HashMap.class, LinkedHashMap.class);
+
+    /**
+     * Сколько раз на элемент можно перегенерировать повторяющийся ключ.
+     */
+    private static final int UNIQUE_ATTEMPTS = 10;
+
+    private final Map<FieldDescriptor, Shape> shapes = new ConcurrentHashMap<>();
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return MAPS;
+    }
+
+    @Override
+    public boolean supports(FieldDescriptor descriptor) {
+        return MAPS.contains(descriptor.type())
+                && descriptor.typeArgument(0) != null && descriptor.typeArgument(1) != null;
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor) {
+        return generate(descriptor, GenerationContext.unseeded());
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
+        Shape shape = shapes.get(descriptor);
+        if (shape == null) {
+            shape = new Shape(ContainerSize.of(descriptor),
+                    new ContainerElement(descriptor.typeArgument(0)),
+                    new ContainerElement(descriptor.typeArgument(1)));
+            shapes.putIfAbsent(descriptor, shape);
+        }
+        int size = shape.size().next(context.random());
+
+        Map<Object, Object> map = new LinkedHashMap<>(CollectionGenerator.capacity(size));
+        int attempts = size * UNIQUE_ATTEMPTS;
+        while (map.size() < size && attempts-- > 0) {
+            Object key = shape.key().next(context);
+            if (!map.containsKey(key)) {
+                map.put(key, shape.value().next(context));
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Из-за повторов ключей таблица может оказаться меньше {@code @Size(min)}.
+     */
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        return Set.of(NotNull.class);
+    }
+
+    private record Shape(ContainerSize size, ContainerElement key, ContainerElement value) {
+    }
+}
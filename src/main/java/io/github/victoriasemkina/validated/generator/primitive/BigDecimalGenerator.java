@@ -1,22 +1,47 @@
 package io.github.victoriasemkina.validated.generator.primitive;
 
+import io.github.victoriasemkina.validated.core.GenerationContext;
 import io.github.victoriasemkina.validated.core.ValueGenerator;
 import io.github.victoriasemkina.validated.model.FieldDescriptor;
-import jakarta.validation.constraints.DecimalMax;
-import jakarta.validation.constraints.DecimalMin;
+import io.github.victoriasemkina.validated.model.NumericBounds;
 import jakarta.validation.constraints.Digits;
 
+import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
 
+/**
+ * Генератор для {@code BigDecimal}.
+ *
+ * <p>Значение строится как {@code unscaled × 10^-scale}, где масштаб берётся из
+ * {@code @Digits(fraction)} (по умолчанию 2), а немасштабированное целое равномерно
+ * выбирается из диапазона, полученного из числовых границ поля
+ * ({@link FieldDescriptor#numericBounds()}) и {@code @Digits(integer)}. Диапазон
+ * вычисляется один раз для описания поля. Если он помещается в {@code long}
+ * (например, при {@code integer + fraction <= 18}), значение создаётся через
+ * {@link BigDecimal#valueOf(long, int)} без промежуточной арифметики.
+ */
 public final class BigDecimalGenerator implements ValueGenerator {
 
-    private static final Random RANDOM = new Random();
     private static final int DEFAULT_SCALE = 2;
     private static final BigDecimal DEFAULT_MIN = BigDecimal.ZERO;
     private static final BigDecimal DEFAULT_MAX = new BigDecimal("9999999999.99");
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private final Map<FieldDescriptor, UnscaledRange> ranges = new ConcurrentHashMap<>();
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return Set.of(BigDecimal.class);
+    }
 
     @Override
     public boolean supports(FieldDescriptor descriptor) {
@@ -25,45 +50,101 @@ public final class BigDecimalGenerator implements ValueGenerator {
 
     @Override
     public Object generate(FieldDescriptor descriptor) {
-        BigDecimal minValue = getDecimalMin(descriptor);
-        BigDecimal maxValue = getDecimalMax(descriptor);
-        int scale = getScaleFromDigits(descriptor);
+        return generate(descriptor, GenerationContext.unseeded());
+    }
 
-        return generateInRange(minValue, maxValue, scale);
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
+        UnscaledRange range = ranges.get(descriptor);
+        if (range == null) {
+            range = UnscaledRange.of(descriptor);
+            ranges.putIfAbsent(descriptor, range);
+        }
+        return range.next(context.random(), descriptor);
     }
 
-    private BigDecimal generateInRange(BigDecimal min, BigDecimal max, int scale) {
-        // Обработка дефолтных значений
-        if (min == null) min = DEFAULT_MIN;
-        if (max == null) max = DEFAULT_MAX;
+    /**
+     * Значение всегда лежит в границах поля и имеет масштаб {@code @Digits(fraction)},
+     * поэтому числовые ограничения и {@code @Digits} гарантируются по построению.
+     */
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        Set<Class<? extends Annotation>> guaranteed = new HashSet<>(NumericConstraints.GUARANTEED);
+        guaranteed.add(Digits.class);
+        return guaranteed;
+    }
 
-        // Защита от некорректных диапазонов
-        if (min.compareTo(max) > 0) {
-            throw new IllegalArgumentException(
-                    "Некорректный диапазон: min=" + min + " > max=" + max
-            );
-        }
+    /**
+     * Диапазон немасштабированных значений {@code [lower, upper]} для масштаба {@code scale}.
+     * Границы хранятся как {@code long}, если помещаются в него, иначе как {@link BigInteger}.
+     */
+    private record UnscaledRange(int scale, long lower, long upper, BigInteger wideLower, BigInteger wideUpper) {
 
-        // Генерация случайного значения в диапазоне [min, max)
-        BigDecimal range = max.subtract(min);
-        BigDecimal randomFraction = new BigDecimal(RANDOM.nextDouble());
-        BigDecimal randomValue = randomFraction.multiply(range).setScale(scale, RoundingMode.HALF_UP);
+        static UnscaledRange of(FieldDescriptor descriptor) {
+            Optional<Digits> digits = descriptor.findConstraint(Digits.class);
+            int scale = digits.map(Digits::fraction).orElse(DEFAULT_SCALE);
+            NumericBounds bounds = descriptor.numericBounds();
 
-        return min.add(randomValue).setScale(scale, RoundingMode.HALF_UP);
-    }
+            BigDecimal min = bounds.hasMin() ? bounds.min()
+                    : bounds.hasMax() && bounds.max().signum() < 0 ? bounds.max().subtract(DEFAULT_MAX) : DEFAULT_MIN;
+            BigDecimal max = bounds.hasMax() ? bounds.max()
+                    : min.compareTo(DEFAULT_MAX) > 0 ? min.add(DEFAULT_MAX) : DEFAULT_MAX;
 
-    private BigDecimal getDecimalMin(FieldDescriptor descriptor) {
-        Optional<DecimalMin> annotation = descriptor.findConstraint(DecimalMin.class);
-        return annotation.map(ann -> new BigDecimal(ann.value())).orElse(null);
-    }
+            BigInteger lower = unscaled(min, scale, bounds.hasMin() && !bounds.minInclusive(), RoundingMode.CEILING);
+            BigInteger upper = unscaled(max, scale, bounds.hasMax() && !bounds.maxInclusive(), RoundingMode.FLOOR);
 
-    private BigDecimal getDecimalMax(FieldDescriptor descriptor) {
-        Optional<DecimalMax> annotation = descriptor.findConstraint(DecimalMax.class);
-        return annotation.map(ann -> new BigDecimal(ann.value())).orElse(null);
-    }
+            // @Digits(integer): модуль значения меньше 10^integer
+            if (digits.isPresent()) {
+                BigInteger limit = BigInteger.TEN.pow(digits.get().integer() + scale).subtract(BigInteger.ONE);
+                lower = lower.max(limit.negate());
+                upper = upper.min(limit);
+            }
+
+            if (lower.compareTo(upper) > 0) {
+                throw new IllegalArgumentException("Некорректный диапазон для поля '" + descriptor.name() +
+                        "': нет значений с масштабом " + scale + " в " + bounds);
+            }
+
+            boolean fitsLong = lower.compareTo(LONG_MIN) >= 0 && upper.compareTo(LONG_MAX) <= 0;
+            return fitsLong
+                    ? new UnscaledRange(scale, lower.longValue(), upper.longValue(), null, null)
+                    : new UnscaledRange(scale, 0, 0, lower, upper);
+        }
 
-    private int getScaleFromDigits(FieldDescriptor descriptor) {
-        Optional<Digits> annotation = descriptor.findConstraint(Digits.class);
-        return annotation.map(Digits::fraction).orElse(DEFAULT_SCALE);
+        BigDecimal next(RandomGenerator random, FieldDescriptor descriptor) {
+            if (wideLower == null) {
+                return BigDecimal.valueOf(NumericRanges.nextLong(random, lower, upper, descriptor), scale);
+            }
+            return new BigDecimal(nextWide(random), scale);
+        }
+
+        /**
+         * Равномерное целое из {@code [wideLower, wideUpper]}: случайные биты
+         * нужной длины с отбрасыванием значений за пределами диапазона.
+         */
+        private BigInteger nextWide(RandomGenerator random) {
+            BigInteger span = wideUpper.subtract(wideLower);
+            int bits = span.bitLength();
+            byte[] bytes = new byte[(bits + 8) / 8];
+            BigInteger offset;
+            do {
+                random.nextBytes(bytes);
+                offset = new BigInteger(1, bytes).shiftRight(bytes.length * 8 - bits);
+            } while (offset.compareTo(span) > 0);
+            return wideLower.add(offset);
+        }
+
+        /**
+         * Немасштабированная граница: {@code value × 10^scale}, округлённая внутрь
+         * диапазона; для исключающей границы само значение пропускается.
+         */
+        private static BigInteger unscaled(BigDecimal value, int scale, boolean exclusive, RoundingMode inward) {
+            BigDecimal shifted = value.movePointRight(scale);
+            BigInteger rounded = shifted.setScale(0, inward).toBigIntegerExact();
+            if (exclusive && shifted.compareTo(new BigDecimal(rounded)) == 0) {
+                return inward == RoundingMode.CEILING ? rounded.add(BigInteger.ONE) : rounded.subtract(BigInteger.ONE);
+            }
+            return rounded;
+        }
     }
 }
@@ -0,0 +1,49 @@
+package io.github.victoriasemkina.validated.generator.primitive;
+
+import io.github.victoriasemkina.validated.core.BooleanValueGenerator;
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.constraints.AssertFalse;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+/**
+ * Генератор для {@code boolean} и {@code Boolean}.
+ * Для {@code @AssertTrue} и {@code @AssertFalse} возвращает требуемое значение.
+ */
+public final class BooleanGenerator implements BooleanValueGenerator {
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return Set.of(boolean.class, Boolean.class);
+    }
+
+    @Override
+    public boolean supports(FieldDescriptor descriptor) {
+        return descriptor.type() == boolean.class || descriptor.type() == Boolean.class;
+    }
+
+    @Override
+    public boolean generateBoolean(FieldDescriptor descriptor, GenerationContext context) {
+        if (descriptor.hasConstraint(AssertTrue.class)) {
+            return true;
+        }
+        if (descriptor.hasConstraint(AssertFalse.class)) {
+            return false;
+        }
+        return context.random().nextBoolean();
+    }
+
+    /**
+     * При одновременных {@code @AssertTrue} и {@code @AssertFalse} выполнить можно только первое.
+     */
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        return descriptor.hasConstraint(AssertTrue.class)
+                ? Set.of(NotNull.class, AssertTrue.class)
+                : Set.of(NotNull.class, AssertFalse.class);
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.victoriasemkina.validated.generator.primitive;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.core.ValueGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.model.NumericBounds;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+/**
+ * Генератор для {@code byte} и {@code Byte}.
+ * Учитывает {@code @Min}, {@code @Max}, {@code @Positive}, {@code @Negative} и другие
+ * числовые ограничения: значение сразу берётся из допустимого диапазона
+ * (без ограничений — от 0 до 99).
+ */
+public final class ByteGenerator implements ValueGenerator {
+
+    private static final long SPAN = 100;
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return Set.of(byte.class, Byte.class);
+    }
+
+    @Override
+    public boolean supports(FieldDescriptor descriptor) {
+        return descriptor.type() == byte.class || descriptor.type() == Byte.class;
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor) {
+        return generate(descriptor, GenerationContext.unseeded());
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
+        NumericBounds bounds = descriptor.numericBounds();
+        long lower = NumericRanges.lower(bounds, Byte.MIN_VALUE, Byte.MAX_VALUE, SPAN);
+        long upper = NumericRanges.upper(bounds, lower, Byte.MAX_VALUE, SPAN);
+        return (byte) NumericRanges.nextLong(context.random(), lower, upper, descriptor);
+    }
+
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        return NumericConstraints.GUARANTEED;
+    }
+}
@@ -1,17 +1,25 @@
 package io.github.victoriasemkina.validated.generator.primitive;
 
+import io.github.victoriasemkina.validated.core.GenerationContext;
 import io.github.victoriasemkina.validated.core.ValueGenerator;
 import io.github.victoriasemkina.validated.model.FieldDescriptor;
-import net.datafaker.Faker;
+import jakarta.validation.constraints.NotNull;
 
-import java.util.Random;
+import java.lang.annotation.Annotation;
+import java.util.Set;
+import java.util.random.RandomGenerator;
 
 /**
  * Генератор по умолчанию для любых типов.
  */
 public final class DefaultGenerator implements ValueGenerator {
-    private final Faker faker = new Faker();
-    private final Random random = new Random();
+    /**
+     * Генератор по умолчанию опрашивается последним.
+     */
+    @Override
+    public int priority() {
+        return FALLBACK_PRIORITY;
+    }
 
     @Override
     public boolean supports(FieldDescriptor descriptor) {
@@ -20,7 +28,13 @@ public final class DefaultGenerator implements ValueGenerator {
 
     @Override
     public Object generate(FieldDescriptor descriptor) {
+        return generate(descriptor, GenerationContext.unseeded());
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
         Class<?> type = descriptor.type();
+        RandomGenerator random = context.random();
 
         if (type.equals(int.class) || type.equals(Integer.class)) {
             return random.nextInt(100);
@@ -31,9 +45,23 @@ public final class DefaultGenerator implements ValueGenerator {
         } else if (type.equals(boolean.class) || type.equals(Boolean.class)) {
             return random.nextBoolean();
         } else if (type.equals(String.class)) {
-            return faker.lorem().word();
+            return context.faker().lorem().word();
         }
 
         return null;
     }
+
+    /**
+     * Для известных типов значение никогда не бывает null.
+     */
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        Class<?> type = descriptor.type();
+        boolean known = type.equals(int.class) || type.equals(Integer.class)
+                || type.equals(long.class) || type.equals(Long.class)
+                || type.equals(double.class) || type.equals(Double.class)
+                || type.equals(boolean.class) || type.equals(Boolean.class)
+                || type.equals(String.class);
+        return known ? Set.of(NotNull.class) : Set.of();
+    }
 }
\ No newline at end of file
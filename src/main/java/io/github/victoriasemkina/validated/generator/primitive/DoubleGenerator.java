@@ -0,0 +1,48 @@
+package io.github.victoriasemkina.validated.generator.primitive;
+
+import io.github.victoriasemkina.validated.core.DoubleValueGenerator;
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.model.NumericBounds;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+/**
+ * Генератор для {@code double} и {@code Double}.
+ * Учитывает {@code @Min}, {@code @Max}, {@code @Positive}, {@code @Negative} и другие
+ * числовые ограничения: значение сразу берётся из допустимого диапазона
+ * (без ограничений — от 0 до 100).
+ */
+public final class DoubleGenerator implements DoubleValueGenerator {
+
+    private static final double SPAN = 100;
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return Set.of(double.class, Double.class);
+    }
+
+    @Override
+    public boolean supports(FieldDescriptor descriptor) {
+        return descriptor.type() == double.class || descriptor.type() == Double.class;
+    }
+
+    @Override
+    public double generateDouble(FieldDescriptor descriptor, GenerationContext context) {
+        NumericBounds bounds = descriptor.numericBounds();
+        double fallbackLower = 0;
+        if (!bounds.hasMin() && bounds.hasMax()) {
+            double upper = bounds.upperDouble(0);
+            fallbackLower = upper < 0 ? upper - SPAN : 0;
+        }
+        double lower = bounds.lowerDouble(fallbackLower);
+        double upper = bounds.upperDouble(lower + SPAN);
+        return NumericRanges.nextDouble(context.random(), lower, upper, descriptor);
+    }
+
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        return NumericConstraints.GUARANTEED;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.victoriasemkina.validated.generator.primitive;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.core.IntValueGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.model.NumericBounds;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+/**
+ * Генератор для {@code int} и {@code Integer}.
+ * Учитывает {@code @Min}, {@code @Max}, {@code @Positive}, {@code @Negative} и другие
+ * числовые ограничения: значение сразу берётся из допустимого диапазона
+ * (без ограничений — от 0 до 99).
+ */
+public final class IntGenerator implements IntValueGenerator {
+
+    private static final long SPAN = 100;
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return Set.of(int.class, Integer.class);
+    }
+
+    @Override
+    public boolean supports(FieldDescriptor descriptor) {
+        return descriptor.type() == int.class || descriptor.type() == Integer.class;
+    }
+
+    @Override
+    public int generateInt(FieldDescriptor descriptor, GenerationContext context) {
+        NumericBounds bounds = descriptor.numericBounds();
+        long lower = NumericRanges.lower(bounds, Integer.MIN_VALUE, Integer.MAX_VALUE, SPAN);
+        long upper = NumericRanges.upper(bounds, lower, Integer.MAX_VALUE, SPAN);
+        return (int) NumericRanges.nextLong(context.random(), lower, upper, descriptor);
+    }
+
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        return NumericConstraints.GUARANTEED;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.victoriasemkina.validated.generator.primitive;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.core.LongValueGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.model.NumericBounds;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+/**
+ * Генератор для {@code long} и {@code Long}.
+ * Учитывает {@code @Min}, {@code @Max}, {@code @Positive}, {@code @Negative} и другие
+ * числовые ограничения: значение сразу берётся из допустимого диапазона
+ * (без ограничений — от 0 до 999).
+ */
+public final class LongGenerator implements LongValueGenerator {
+
+    private static final long SPAN = 1000;
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return Set.of(long.class, Long.class);
+    }
+
+    @Override
+    public boolean supports(FieldDescriptor descriptor) {
+        return descriptor.type() == long.class || descriptor.type() == Long.class;
+    }
+
+    @Override
+    public long generateLong(FieldDescriptor descriptor, GenerationContext context) {
+        NumericBounds bounds = descriptor.numericBounds();
+        long lower = NumericRanges.lower(bounds, Long.MIN_VALUE, Long.MAX_VALUE, SPAN);
+        long upper = NumericRanges.upper(bounds, lower, Long.MAX_VALUE, SPAN);
+        return NumericRanges.nextLong(context.random(), lower, upper, descriptor);
+    }
+
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        return NumericConstraints.GUARANTEED;
+    }
+}
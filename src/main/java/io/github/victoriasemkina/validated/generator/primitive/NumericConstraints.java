@@ -0,0 +1,27 @@
+package io.github.victoriasemkina.validated.generator.primitive;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Negative;
+import jakarta.validation.constraints.NegativeOrZero;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+/**
+ * Ограничения, которые числовые генераторы выполняют по построению.
+ */
+final class NumericConstraints {
+
+    static final Set<Class<? extends Annotation>> GUARANTEED = Set.of(
+            NotNull.class, Min.class, Max.class, Positive.class, PositiveOrZero.class,
+            Negative.class, NegativeOrZero.class, DecimalMin.class, DecimalMax.class);
+
+    private NumericConstraints() {
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.victoriasemkina.validated.generator.primitive;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.model.NumericBounds;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Диапазоны значений для числовых генераторов, построенные по
+ * {@link FieldDescriptor#numericBounds()}.
+ *
+ * <p>Без ограничений значения берутся из {@code [0, span)}. Если задана только
+ * одна граница, диапазон шириной {@code span} примыкает к ней (для отрицательной
+ * верхней границы — снизу). Значения, нарушающие ограничения, не генерируются
+ * вовсе, поэтому повторные попытки не нужны.
+ */
+final class NumericRanges {
+
+    private NumericRanges() {
+    }
+
+    /**
+     * Нижняя граница целочисленного диапазона (включительно).
+     */
+    static long lower(NumericBounds bounds, long typeMin, long typeMax, long span) {
+        if (bounds.hasMin()) {
+            return bounds.lowerLong(typeMin);
+        }
+        if (bounds.hasMax()) {
+            long upper = bounds.upperLong(typeMax);
+            if (upper < 0) {
+                return upper < typeMin + (span - 1) ? typeMin : upper - (span - 1);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Верхняя граница целочисленного диапазона (включительно).
+     */
+    static long upper(NumericBounds bounds, long lower, long typeMax, long span) {
+        if (bounds.hasMax()) {
+            return bounds.upperLong(typeMax);
+        }
+        return lower > typeMax - (span - 1) ? typeMax : lower + (span - 1);
+    }
+
+    /**
+     * Случайное целое из {@code [lower, upper]}.
+     *
+     * @throws IllegalStateException если ограничения поля несовместимы
+     */
+    static long nextLong(RandomGenerator random, long lower, long upper, FieldDescriptor descriptor) {
+        if (lower > upper) {
+            throw conflict(descriptor);
+        }
+        if (upper < Long.MAX_VALUE) {
+            return random.nextLong(lower, upper + 1);
+        }
+        return lower == Long.MIN_VALUE ? random.nextLong() : random.nextLong(lower - 1, upper) + 1;
+    }
+
+    /**
+     * Случайное число из {@code [lower, upper]} без ограничений ширины диапазона.
+     *
+     * @throws IllegalStateException если ограничения поля несовместимы
+     */
+    static double nextDouble(RandomGenerator random, double lower, double upper, FieldDescriptor descriptor) {
+        if (!(lower <= upper)) {
+            throw conflict(descriptor);
+        }
+        double r = random.nextDouble();
+        double value = lower * (1 - r) + upper * r;
+        return Math.min(Math.max(value, lower), upper);
+    }
+
+    private static IllegalStateException conflict(FieldDescriptor descriptor) {
+        return new IllegalStateException("Конфликт ограничений на поле '" + descriptor.name() +
+                "': нет значений в диапазоне " + descriptor.numericBounds());
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.victoriasemkina.validated.generator.primitive;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.core.ValueGenerator;
+import io.github.victoriasemkina.validated.internal.regex.RegexAutomaton;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Генератор строк по регулярному выражению из {@code @Pattern}.
+ *
+ * <p>Выражение компилируется в автомат ({@link RegexAutomaton}) один раз для описания
+ * поля, и строки с длиной из {@code @Size} строятся блужданием по нему — подходят
+ * по построению. Выражения с конструкциями, которые автомат не поддерживает
+ * (обратные ссылки, просмотр и т. п.), генерируются через DataFaker ({@code regexify})
+ * со сверкой по {@link java.util.regex.Pattern}; если за несколько попыток подходящая
+ * строка не нашлась, возвращается последняя, и её отклонит валидатор.
+ *
+ * <p>Опрашивается раньше семантических генераторов: совпадение с шаблоном —
+ * жёсткое требование, а «похожесть» на email или имя — нет.
+ */
+public final class PatternGenerator implements ValueGenerator {
+
+    private static final int PRIORITY = 20;
+    private static final int ATTEMPTS = 10;
+    /**
+     * Насколько длиннее самой короткой подходящей строки может быть значение без {@code @Size(max)}.
+     */
+    private static final int EXTRA_LENGTH = 32;
+
+    /**
+     * Символы-операторы синтаксиса автоматов DataFaker, обычные в {@link java.util.regex.Pattern}.
+     */
+    private static final String AUTOMATON_OPERATORS = "@&~#<>\"";
+
+    private final Map<FieldDescriptor, CompiledPattern> compiled = new ConcurrentHashMap<>();
+
+    @Override
+    public int priority() {
+        return PRIORITY;
+    }
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return Set.of(String.class);
+    }
+
+    @Override
+    public boolean supports(FieldDescriptor descriptor) {
+        return descriptor.type().equals(String.class) && descriptor.getPatternConstraint().isPresent();
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor) {
+        return generate(descriptor, GenerationContext.unseeded());
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
+        CompiledPattern pattern = compiled(descriptor);
+        if (pattern.lengths() != null) {
+            return pattern.lengths().generate(context.random());
+        }
+
+        int min = minLength(descriptor);
+        int max = descriptor.getSizeConstraint().map(Size::max).orElse(Integer.MAX_VALUE);
+        String value = null;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            value = context.faker().regexify(pattern.automatonSyntax());
+            if (value.length() >= min && value.length() <= max && pattern.regex().matcher(value).matches()) {
+                return value;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Строки из автомата подходят под шаблон и {@code @Size} (и непусты, если поле
+     * обязано быть непустым); для выражений, разобранных DataFaker, гарантируется
+     * только отсутствие null.
+     */
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        CompiledPattern pattern = compiled(descriptor);
+        if (pattern.lengths() == null) {
+            return Set.of(NotNull.class);
+        }
+        return minLength(descriptor) > 0
+                ? Set.of(NotNull.class, Pattern.class, Size.class, NotEmpty.class)
+                : Set.of(NotNull.class, Pattern.class, Size.class);
+    }
+
+    private CompiledPattern compiled(FieldDescriptor descriptor) {
+        CompiledPattern pattern = compiled.get(descriptor);
+        if (pattern == null) {
+            pattern = CompiledPattern.of(descriptor);
+            compiled.putIfAbsent(descriptor, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Наименьшая длина: {@code @Size(min)}, но не меньше 1 для {@code @NotEmpty}/{@code @NotBlank}.
+     */
+    private static int minLength(FieldDescriptor descriptor) {
+        int min = descriptor.getSizeConstraint().map(Size::min).orElse(0);
+        boolean nonEmpty = descriptor.hasConstraint(NotEmpty.class) || descriptor.hasConstraint(NotBlank.class);
+        return nonEmpty ? Math.max(min, 1) : min;
+    }
+
+    /**
+     * Выражение из аннотации: таблица длин автомата ({@code lengths}) или, если
+     * автомат не построен, скомпилированное выражение для проверки и выражение
+     * в синтаксисе {@code regexify}.
+     */
+    private record CompiledPattern(RegexAutomaton.Lengths lengths, java.util.regex.Pattern regex,
+                                   String automatonSyntax) {
+
+        static CompiledPattern of(FieldDescriptor descriptor) {
+            Pattern pattern = descriptor.getPatternConstraint().orElseThrow();
+            int flags = 0;
+            for (Pattern.Flag flag : pattern.flags()) {
+                flags |= flag.getValue();
+            }
+            java.util.regex.Pattern regex = java.util.regex.Pattern.compile(pattern.regexp(), flags);
+
+            // В режиме комментариев меняется синтаксис выражения
+            if ((flags & java.util.regex.Pattern.COMMENTS) == 0) {
+                try {
+                    RegexAutomaton automaton = RegexAutomaton.compile(pattern.regexp(),
+                            RegexAutomaton.Alphabet.PRINTABLE);
+                    int min = Math.max(minLength(descriptor), Math.max(automaton.shortestLength(), 0));
+                    int max = descriptor.getSizeConstraint().map(Size::max).orElse(Integer.MAX_VALUE);
+                    return new CompiledPattern(
+                            automaton.lengths(minLength(descriptor), Math.min(max, min + EXTRA_LENGTH)), null, null);
+                } catch (IllegalArgumentException e) {
+                    // Конструкция не поддерживается автоматом или нет строк нужной длины
+                }
+            }
+            return new CompiledPattern(null, regex, toAutomatonSyntax(pattern.regexp()));
+        }
+
+        /**
+         * Экранирует операторы автоматов ({@code @}, {@code &}, {@code ~} и др.),
+         * раскрывает {@code \d}, {@code \w}, {@code \s} в классы символов
+         * и убирает якоря {@code ^} и {@code $} по краям выражения.
+         */
+        private static String toAutomatonSyntax(String regexp) {
+            String body = regexp;
+            if (body.startsWith("^")) {
+                body = body.substring(1);
+            }
+            if (body.endsWith("$") && !body.endsWith("\\$")) {
+                body = body.substring(0, body.length() - 1);
+            }
+
+            StringBuilder result = new StringBuilder(body.length() + 8);
+            boolean inClass = false;
+            for (int i = 0; i < body.length(); i++) {
+                char c = body.charAt(i);
+                if (c == '\\' && i + 1 < body.length()) {
+                    char next = body.charAt(++i);
+                    String range = switch (next) {
+                        case 'd' -> "0-9";
+                        case 'w' -> "a-zA-Z0-9_";
+                        case 's' -> " \t";
+                        default -> null;
+                    };
+                    if (range == null) {
+                        result.append(c).append(next);
+                    } else {
+                        result.append(inClass ? range : "[" + range + "]");
+                    }
+                    continue;
+                }
+                if (c == '[') {
+                    inClass = true;
+                } else if (c == ']') {
+                    inClass = false;
+                } else if (AUTOMATON_OPERATORS.indexOf(c) >= 0) {
+                    result.append('\\');
+                }
+                result.append(c);
+            }
+            return result.toString();
+        }
+    }
+}
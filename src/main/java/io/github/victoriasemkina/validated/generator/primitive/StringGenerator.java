@@ -1,19 +1,26 @@
 package io.github.victoriasemkina.validated.generator.primitive;
 
+import io.github.victoriasemkina.validated.core.GenerationContext;
 import io.github.victoriasemkina.validated.core.ValueGenerator;
 import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import net.datafaker.Faker;
 
+import java.lang.annotation.Annotation;
 import java.util.Optional;
-import java.util.Random;
+import java.util.Set;
 
 /**
  * Генератор строковых значений с использованием DataFaker.
  */
 public final class StringGenerator implements ValueGenerator {
-    private final Faker faker = new Faker();
-    private final Random random = new Random();
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return Set.of(String.class);
+    }
 
     @Override
     public boolean supports(FieldDescriptor descriptor) {
@@ -22,30 +29,44 @@ public final class StringGenerator implements ValueGenerator {
 
     @Override
     public Object generate(FieldDescriptor descriptor) {
+        return generate(descriptor, GenerationContext.unseeded());
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
         String fieldName = descriptor.name().toLowerCase();
 
         // 1. Определяем тип поля по имени (семантическая логика)
         if (fieldName.contains("firstname") || fieldName.contains("name") ||
                 fieldName.contains("имя") || fieldName.contains("firstName")) {
-            return generateNameWithSize(descriptor, true);
+            return generateNameWithSize(descriptor, true, context);
         }
 
         if (fieldName.contains("lastname") || fieldName.contains("surname") ||
                 fieldName.contains("фамилия") || fieldName.contains("lastName")) {
-            return generateNameWithSize(descriptor, false);
+            return generateNameWithSize(descriptor, false, context);
         }
 
         if (fieldName.contains("description") || fieldName.contains("описание") ||
                 fieldName.contains("text") || fieldName.contains("текст")) {
-            return generateTextWithSize(descriptor);
+            return generateTextWithSize(descriptor, context);
         }
 
         // 2. Для остальных строк - базовая логика с @Size
-        return generateGenericStringWithSize(descriptor);
+        return generateGenericStringWithSize(descriptor, context);
+    }
+
+    /**
+     * Строка всегда непустая, а длина подгоняется под @Size.
+     */
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        return Set.of(NotNull.class, NotEmpty.class, NotBlank.class, Size.class);
     }
 
-    private String generateNameWithSize(FieldDescriptor descriptor, boolean isFirstName) {
+    private String generateNameWithSize(FieldDescriptor descriptor, boolean isFirstName, GenerationContext context) {
         Optional<Size> sizeConstraint = descriptor.getSizeConstraint();
+        Faker faker = context.faker();
         String name = isFirstName ? faker.name().firstName() : faker.name().lastName();
 
         if (sizeConstraint.isPresent()) {
@@ -57,35 +78,35 @@ public final class StringGenerator implements ValueGenerator {
         return name;
     }
 
-    private String generateTextWithSize(FieldDescriptor descriptor) {
+    private String generateTextWithSize(FieldDescriptor descriptor, GenerationContext context) {
         Optional<Size> sizeConstraint = descriptor.getSizeConstraint();
 
         if (sizeConstraint.isPresent()) {
             Size size = sizeConstraint.get();
             int min = Math.max(size.min(), 1);
             int max = size.max() == Integer.MAX_VALUE ? 500 : size.max();
-            int length = random.nextInt(min, max + 1);
+            int length = context.random().nextInt(min, max + 1);
 
             // Генерируем текст нужной длины
-            return faker.lorem().characters(length);
+            return context.faker().lorem().characters(length);
         }
 
-        return faker.lorem().sentence();
+        return context.faker().lorem().sentence();
     }
 
-    private String generateGenericStringWithSize(FieldDescriptor descriptor) {
+    private String generateGenericStringWithSize(FieldDescriptor descriptor, GenerationContext context) {
         Optional<Size> sizeConstraint = descriptor.getSizeConstraint();
 
         if (sizeConstraint.isPresent()) {
             Size size = sizeConstraint.get();
             int min = Math.max(size.min(), 1);
             int max = size.max() == Integer.MAX_VALUE ? 100 : size.max();
-            int length = random.nextInt(min, max + 1);
+            int length = context.random().nextInt(min, max + 1);
 
-            return faker.lorem().characters(length);
+            return context.faker().lorem().characters(length);
         }
 
-        return faker.lorem().word();
+        return context.faker().lorem().word();
     }
 
     private String adjustStringToSize(String original, int min, int max) {
@@ -1,30 +1,66 @@
 package io.github.victoriasemkina.validated.generator.semantic;
 
+import io.github.victoriasemkina.validated.core.GenerationContext;
 import io.github.victoriasemkina.validated.core.ValueGenerator;
+import io.github.victoriasemkina.validated.internal.regex.RegexAutomaton;
 import io.github.victoriasemkina.validated.model.FieldDescriptor;
 import jakarta.validation.constraints.Email;
-import net.datafaker.Faker;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Специальный генератор для email-полей.
- * Учитывает аннотацию @Email с regexp, если она есть.
+ * Учитывает аннотацию @Email с regexp, если она есть: адрес строится по автомату
+ * выражения ({@link RegexAutomaton}), а вместо точки и отрицательных классов
+ * подставляются только латинские буквы и цифры, чтобы адрес оставался корректным.
  */
 public final class EmailGenerator implements ValueGenerator {
-    private final Faker faker = new Faker();
-    private final Random random = new Random();
+    private static final String COMPANY_REGEXP = ".+@company\\.com";
+    private static final int PRIORITY = 10;
+    /**
+     * Насколько длиннее самой короткой подходящей строки может быть адрес.
+     */
+    private static final int EXTRA_LENGTH = 24;
+
+    private final Map<String, Optional<RegexAutomaton.Lengths>> automata = new ConcurrentHashMap<>();
+
+    /**
+     * Опрашивается раньше {@link io.github.victoriasemkina.validated.generator.primitive.StringGenerator}:
+     * email-поля тоже имеют тип {@code String}.
+     */
+    @Override
+    public int priority() {
+        return PRIORITY;
+    }
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return Set.of(String.class);
+    }
 
     @Override
     public boolean supports(FieldDescriptor descriptor) {
         String fieldName = descriptor.name().toLowerCase();
         return descriptor.type().equals(String.class) &&
-                (fieldName.contains("email") || fieldName.contains("mail"));
+                (fieldName.contains("email") || fieldName.contains("mail") || descriptor.hasConstraint(Email.class));
     }
 
     @Override
     public Object generate(FieldDescriptor descriptor) {
+        return generate(descriptor, GenerationContext.unseeded());
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
         // 1. Пытаемся получить аннотацию @Email
         Optional<Email> emailAnnotation = descriptor.findConstraint(Email.class);
 
@@ -33,28 +69,52 @@ public final class EmailGenerator implements ValueGenerator {
             String regexp = emailConstraint.regexp();
 
             // 2. Если regexp не дефолтный (не пустая строка), генерируем по нему
-            if (!regexp.isEmpty() && !regexp.equals(".*")) {
-                return generateEmailByRegexp(regexp, descriptor);
+            // (в режиме комментариев синтаксис выражения другой — автомат не подходит)
+            if (!regexp.isEmpty() && !regexp.equals(".*")
+                    && Arrays.stream(emailConstraint.flags()).noneMatch(flag -> flag == Pattern.Flag.COMMENTS)) {
+                return generateEmailByRegexp(regexp, context);
             }
         }
 
         // 3. Иначе - стандартная генерация
-        return faker.internet().emailAddress();
-    }
-
-    private String generateEmailByRegexp(String regexp, FieldDescriptor descriptor) {
-        // Простейшая реализация для паттерна ".+@company\\.com"
-        if (regexp.equals(".+@company\\.com")) {
-            // Генерируем имя для email
-            String name = faker.name().firstName().toLowerCase() +
-                    "." + faker.name().lastName().toLowerCase();
-            // Убираем пробелы и специальные символы
-            name = name.replaceAll("[^a-zA-Z0-9.]", "");
-            return name + "@company.com";
+        return context.faker().internet().emailAddress();
+    }
+
+    /**
+     * @Email гарантируется для стандартной генерации и для поддерживаемого regexp.
+     */
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        String regexp = descriptor.findConstraint(Email.class).map(Email::regexp).orElse("");
+        if (regexp.isEmpty() || regexp.equals(".*") || regexp.equals(COMPANY_REGEXP)) {
+            return Set.of(NotNull.class, NotEmpty.class, NotBlank.class, Email.class);
         }
+        return Set.of(NotNull.class, NotEmpty.class, NotBlank.class);
+    }
 
-        // Для других regexp можно добавить логику позже
-        // Пока возвращаем fallback
-        return faker.internet().emailAddress();
+    private String generateEmailByRegexp(String regexp, GenerationContext context) {
+        Optional<RegexAutomaton.Lengths> lengths = automata.get(regexp);
+        if (lengths == null) {
+            lengths = Optional.ofNullable(automaton(regexp));
+            automata.putIfAbsent(regexp, lengths);
+        }
+        if (lengths.isPresent()) {
+            return lengths.get().generate(context.random());
+        }
+        // Выражение не поддерживается автоматом — стандартный адрес
+        return context.faker().internet().emailAddress();
+    }
+
+    /**
+     * Таблица длин автомата выражения или null, если выражение не поддерживается.
+     */
+    private static RegexAutomaton.Lengths automaton(String regexp) {
+        try {
+            RegexAutomaton automaton = RegexAutomaton.compile(regexp, RegexAutomaton.Alphabet.ALPHANUMERIC);
+            int shortest = Math.max(automaton.shortestLength(), 1);
+            return automaton.lengths(shortest, shortest + EXTRA_LENGTH);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,23 +2,39 @@
 
 package io.github.victoriasemkina.validated.generator.temporal;
 
+import io.github.victoriasemkina.validated.core.GenerationContext;
 import io.github.victoriasemkina.validated.core.ValueGenerator;
 import io.github.victoriasemkina.validated.model.FieldDescriptor;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
 import jakarta.validation.constraints.PastOrPresent;
 
 import java.time.LocalDate;
-import java.util.Random;
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Генератор для LocalDate с поддержкой временных ограничений.
  * Учитывает аннотации: @Past, @Future, @PastOrPresent, @FutureOrPresent.
+ *
+ * <p>Допустимый диапазон смещения в днях вычисляется один раз для описания поля,
+ * а точка отсчёта — {@link GenerationContext#today()}, зафиксированное в контексте генерации.
  */
 public final class LocalDateGenerator implements ValueGenerator {
 
-    private static final Random RANDOM = new Random();
+    private static final long PAST_SPAN = 365L * 50;
+    private static final long FUTURE_SPAN = 365L * 10;
+
+    private final Map<FieldDescriptor, TemporalRange> ranges = new ConcurrentHashMap<>();
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return Set.of(LocalDate.class);
+    }
 
     @Override
     public boolean supports(FieldDescriptor descriptor) {
@@ -27,69 +43,21 @@ public final class LocalDateGenerator implements ValueGenerator {
 
     @Override
     public Object generate(FieldDescriptor descriptor) {
-        // Проверяем конфликты аннотаций
-        checkForConflicts(descriptor);
-
-        // Определяем тип ограничения
-        if (hasAnnotation(descriptor, Past.class)) {
-            return generatePastDate(false);
-        }
-        if (hasAnnotation(descriptor, Future.class)) {
-            return generateFutureDate(false);
-        }
-        if (hasAnnotation(descriptor, PastOrPresent.class)) {
-            return generatePastDate(true);
-        }
-        if (hasAnnotation(descriptor, FutureOrPresent.class)) {
-            return generateFutureDate(true);
-        }
-
-        // Нет аннотаций — генерируем нейтральную дату
-        return generateNeutralDate();
+        return generate(descriptor, GenerationContext.unseeded());
     }
 
-    private void checkForConflicts(FieldDescriptor descriptor) {
-        boolean hasPast = hasAnnotation(descriptor, Past.class)
-                || hasAnnotation(descriptor, PastOrPresent.class);
-        boolean hasFuture = hasAnnotation(descriptor, Future.class)
-                || hasAnnotation(descriptor, FutureOrPresent.class);
-
-        if (hasPast && hasFuture) {
-            throw new IllegalStateException(
-                    "Конфликт аннотаций на поле '" + descriptor.name() +
-                            "': не могут одновременно присутствовать @Past/@PastOrPresent и @Future/@FutureOrPresent"
-            );
-        }
-    }
-
-    private boolean hasAnnotation(FieldDescriptor descriptor, Class<?> annotationClass) {
-        return descriptor.findConstraint((Class) annotationClass).isPresent();
-    }
-
-    private LocalDate generatePastDate(boolean includePresent) {
-        LocalDate now = LocalDate.now();
-        if (includePresent && RANDOM.nextBoolean()) {
-            return now;
-        }
-        // 1 день — 50 лет в прошлое
-        int daysBack = 1 + RANDOM.nextInt(365 * 50);
-        return now.minusDays(daysBack);
-    }
-
-    private LocalDate generateFutureDate(boolean includePresent) {
-        LocalDate now = LocalDate.now();
-        if (includePresent && RANDOM.nextBoolean()) {
-            return now;
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
+        TemporalRange range = ranges.get(descriptor);
+        if (range == null) {
+            range = TemporalRange.of(descriptor, PAST_SPAN, FUTURE_SPAN, true);
+            ranges.putIfAbsent(descriptor, range);
         }
-        // 1 день — 10 лет в будущее
-        int daysForward = 1 + RANDOM.nextInt(365 * 10);
-        return now.plusDays(daysForward);
+        return context.today().plusDays(range.next(context.random()));
     }
 
-    private LocalDate generateNeutralDate() {
-        // ±5 лет от текущей даты
-        LocalDate now = LocalDate.now();
-        int daysOffset = RANDOM.nextInt(365 * 10) - (365 * 5);
-        return now.plusDays(daysOffset);
+    @Override
+    public Set<Class<? extends Annotation>> guaranteedConstraints(FieldDescriptor descriptor) {
+        return Set.of(NotNull.class, Past.class, Future.class, PastOrPresent.class, FutureOrPresent.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package io.github.victoriasemkina.validated.generator.temporal;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.PastOrPresent;
+
+import java.lang.annotation.Annotation;
+import java.util.random.RandomGenerator;
+
+/**
+ * Диапазон смещений {@code [lower, upper]} относительно текущего момента
+ * (в днях или секундах), выведенный из {@code @Past}, {@code @Future},
+ * {@code @PastOrPresent} и {@code @FutureOrPresent} один раз для описания поля.
+ * Генерация значения — одно равномерное случайное смещение.
+ */
+record TemporalRange(long lower, long upper) {
+
+    /**
+     * @param pastSpan       насколько далеко в прошлое уходят значения
+     * @param futureSpan     насколько далеко в будущее уходят значения
+     * @param presentIsValid можно ли выдавать «сейчас» для {@code @FutureOrPresent}
+     *                       (для времени с секундами нельзя: валидатор проверяет
+     *                       значение позже, и «сейчас» уже окажется в прошлом)
+     * @throws IllegalStateException если поле одновременно требует прошлого и будущего
+     */
+    static TemporalRange of(FieldDescriptor descriptor, long pastSpan, long futureSpan, boolean presentIsValid) {
+        boolean past = false;
+        boolean pastOrPresent = false;
+        boolean future = false;
+        boolean futureOrPresent = false;
+        for (Annotation constraint : descriptor.constraints()) {
+            past |= constraint instanceof Past;
+            pastOrPresent |= constraint instanceof PastOrPresent;
+            future |= constraint instanceof Future;
+            futureOrPresent |= constraint instanceof FutureOrPresent;
+        }
+
+        if ((past || pastOrPresent) && (future || futureOrPresent)) {
+            throw new IllegalStateException(
+                    "Конфликт аннотаций на поле '" + descriptor.name() +
+                            "': не могут одновременно присутствовать @Past/@PastOrPresent и @Future/@FutureOrPresent"
+            );
+        }
+
+        if (past) {
+            return new TemporalRange(-pastSpan, -1);
+        }
+        if (pastOrPresent) {
+            return new TemporalRange(-pastSpan, 0);
+        }
+        if (future) {
+            return new TemporalRange(1, futureSpan);
+        }
+        if (futureOrPresent) {
+            return new TemporalRange(presentIsValid ? 0 : 1, futureSpan);
+        }
+        // Нет аннотаций — нейтральное значение в пределах половины обоих промежутков
+        long neutral = Math.min(pastSpan, futureSpan) / 2;
+        return new TemporalRange(-neutral, neutral - 1);
+    }
+
+    long next(RandomGenerator random) {
+        return random.nextLong(lower, upper + 1);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.victoriasemkina.validated.internal;
+
+import net.datafaker.Faker;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Пул экземпляров DataFaker, разделяемых всеми билдерами.
+ *
+ * <p>Создание {@link Faker} дорогое (загрузка YAML-данных локали), поэтому
+ * экземпляры создаются лениво при первом обращении и переиспользуются:
+ * <ul>
+ *   <li>{@link #shared(Locale)} — один потокобезопасный экземпляр на локаль;</li>
+ *   <li>{@link #forCurrentThread(Locale, long)} — экземпляр на поток и локаль
+ *       с пересеваемым {@code Random}, без конкуренции за внутреннее состояние
+ *       Faker. Именно его использует генерация.</li>
+ * </ul>
+ */
+public final class FakerProvider {
+
+    private static final ConcurrentMap<Locale, Faker> SHARED = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Locale, SeededFaker>> PER_THREAD =
+            ThreadLocal.withInitial(HashMap::new);
+
+    private FakerProvider() {
+    }
+
+    /**
+     * Общий для всех потоков Faker для указанной локали.
+     */
+    public static Faker shared(Locale locale) {
+        Objects.requireNonNull(locale, "Локаль не может быть null");
+        return SHARED.computeIfAbsent(locale, Faker::new);
+    }
+
+    /**
+     * Faker текущего потока для указанной локали, пересеянный значением {@code seed}.
+     * Результат нельзя передавать в другие потоки и сохранять между вызовами:
+     * следующий вызов в этом же потоке пересеет его заново.
+     */
+    public static Faker forCurrentThread(Locale locale, long seed) {
+        Objects.requireNonNull(locale, "Локаль не может быть null");
+        SeededFaker seeded = PER_THREAD.get().computeIfAbsent(locale, SeededFaker::create);
+        seeded.random().setSeed(seed);
+        return seeded.faker();
+    }
+
+    private record SeededFaker(Faker faker, Random random) {
+
+        static SeededFaker create(Locale locale) {
+            Random random = new Random();
+            return new SeededFaker(new Faker(locale, random), random);
+        }
+    }
+}
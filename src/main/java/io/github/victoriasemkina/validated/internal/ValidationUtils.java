@@ -1,4 +1,72 @@
 package io.github.victoriasemkina.validated.internal;
 
-public class ValidationUtils {
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * Процессный держатель {@link Validator} для всех билдеров.
+ *
+ * <p>Инициализация Bean Validation (поиск провайдера, метаданные, EL) — одна из
+ * самых дорогих операций при старте тестов, поэтому фабрика создаётся лениво
+ * один раз и остаётся открытой до конца работы JVM. {@link Validator} потокобезопасен,
+ * а метаданные классов, однажды вычисленные, остаются «прогретыми» для всех билдеров.
+ *
+ * <p>Вместо валидатора по умолчанию можно установить свой, например
+ * сконфигурированный приложением: {@link #setDefaultValidator(Validator)}.
+ */
+public final class ValidationUtils {
+
+    private static volatile Validator injectedValidator;
+
+    private ValidationUtils() {
+    }
+
+    /**
+     * Валидатор по умолчанию: установленный через {@link #setDefaultValidator(Validator)}
+     * или лениво созданный из {@link Validation#buildDefaultValidatorFactory()}.
+     */
+    public static Validator defaultValidator() {
+        Validator validator = injectedValidator;
+        return validator != null ? validator : DefaultFactoryHolder.VALIDATOR;
+    }
+
+    /**
+     * Валидатор стандартной фабрики, проверяющий временные ограничения по указанным часам.
+     * Метаданные классов разделяются с валидатором по умолчанию. Валидатор,
+     * установленный через {@link #setDefaultValidator(Validator)}, здесь не используется:
+     * его часы задаются при создании.
+     */
+    public static Validator validatorWithClock(Clock clock) {
+        Objects.requireNonNull(clock, "Часы не могут быть null");
+        return DefaultFactoryHolder.FACTORY.usingContext()
+                .clockProvider(() -> clock)
+                .getValidator();
+    }
+
+    /**
+     * Подменяет валидатор по умолчанию для всех билдеров, у которых не задан собственный.
+     */
+    public static void setDefaultValidator(Validator validator) {
+        injectedValidator = Objects.requireNonNull(validator, "Валидатор не может быть null");
+    }
+
+    /**
+     * Возвращает валидатор по умолчанию к стандартному.
+     */
+    public static void resetDefaultValidator() {
+        injectedValidator = null;
+    }
+
+    /**
+     * Ленивая инициализация фабрики (idiom «holder class»): фабрика создаётся
+     * при первом обращении и не закрывается.
+     */
+    private static final class DefaultFactoryHolder {
+        private static final ValidatorFactory FACTORY = Validation.buildDefaultValidatorFactory();
+        private static final Validator VALIDATOR = FACTORY.getValidator();
+    }
 }
@@ -0,0 +1,180 @@
+package io.github.victoriasemkina.validated.internal.regex;
+
+import java.util.Arrays;
+
+/**
+ * Неизменяемое множество символов в виде отсортированных непересекающихся
+ * диапазонов {@code [lo, hi]} (включительно).
+ */
+final class CharSet {
+
+    static final CharSet EMPTY = new CharSet(new int[0]);
+
+    /**
+     * Пары границ: {@code bounds[2i]} — начало, {@code bounds[2i + 1]} — конец диапазона.
+     */
+    private final int[] bounds;
+    private final int size;
+
+    private CharSet(int[] bounds) {
+        this.bounds = bounds;
+        int count = 0;
+        for (int i = 0; i < bounds.length; i += 2) {
+            count += bounds[i + 1] - bounds[i] + 1;
+        }
+        this.size = count;
+    }
+
+    static CharSet of(int c) {
+        return new CharSet(new int[]{c, c});
+    }
+
+    static CharSet range(int lo, int hi) {
+        return lo > hi ? EMPTY : new CharSet(new int[]{lo, hi});
+    }
+
+    boolean isEmpty() {
+        return bounds.length == 0;
+    }
+
+    /**
+     * Количество символов.
+     */
+    int size() {
+        return size;
+    }
+
+    int rangeCount() {
+        return bounds.length / 2;
+    }
+
+    int lo(int range) {
+        return bounds[2 * range];
+    }
+
+    int hi(int range) {
+        return bounds[2 * range + 1];
+    }
+
+    boolean contains(int c) {
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (c < bounds[i]) {
+                return false;
+            }
+            if (c <= bounds[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Символ с номером {@code index} в порядке возрастания ({@code 0 <= index < size()}).
+     */
+    int charAt(int index) {
+        int remaining = index;
+        for (int i = 0; i < bounds.length; i += 2) {
+            int length = bounds[i + 1] - bounds[i] + 1;
+            if (remaining < length) {
+                return bounds[i] + remaining;
+            }
+            remaining -= length;
+        }
+        throw new IndexOutOfBoundsException(index);
+    }
+
+    CharSet union(CharSet other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        int[] merged = new int[bounds.length + other.bounds.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < bounds.length || j < other.bounds.length) {
+            int lo;
+            int hi;
+            if (j >= other.bounds.length || (i < bounds.length && bounds[i] <= other.bounds[j])) {
+                lo = bounds[i];
+                hi = bounds[i + 1];
+                i += 2;
+            } else {
+                lo = other.bounds[j];
+                hi = other.bounds[j + 1];
+                j += 2;
+            }
+            if (count > 0 && lo <= merged[count - 1] + 1) {
+                merged[count - 1] = Math.max(merged[count - 1], hi);
+            } else {
+                merged[count++] = lo;
+                merged[count++] = hi;
+            }
+        }
+        return new CharSet(Arrays.copyOf(merged, count));
+    }
+
+    CharSet minus(CharSet other) {
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+        int[] result = new int[bounds.length + other.bounds.length];
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < bounds.length; i += 2) {
+            int lo = bounds[i];
+            int hi = bounds[i + 1];
+            while (j < other.bounds.length && other.bounds[j + 1] < lo) {
+                j += 2;
+            }
+            int k = j;
+            while (lo <= hi && k < other.bounds.length && other.bounds[k] <= hi) {
+                if (other.bounds[k] > lo) {
+                    result = ensureCapacity(result, count + 2);
+                    result[count++] = lo;
+                    result[count++] = other.bounds[k] - 1;
+                }
+                lo = Math.max(lo, other.bounds[k + 1] + 1);
+                k += 2;
+            }
+            if (lo <= hi) {
+                result = ensureCapacity(result, count + 2);
+                result[count++] = lo;
+                result[count++] = hi;
+            }
+        }
+        return new CharSet(Arrays.copyOf(result, count));
+    }
+
+    CharSet intersect(CharSet other) {
+        return minus(minus(other));
+    }
+
+    private static int[] ensureCapacity(int[] array, int required) {
+        return array.length >= required ? array : Arrays.copyOf(array, Math.max(required, array.length * 2));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CharSet other && Arrays.equals(bounds, other.bounds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bounds);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < bounds.length; i += 2) {
+            result.appendCodePoint(bounds[i]);
+            if (bounds[i + 1] != bounds[i]) {
+                result.append('-').appendCodePoint(bounds[i + 1]);
+            }
+        }
+        return result.append(']').toString();
+    }
+}
@@ -0,0 +1,399 @@
+package io.github.victoriasemkina.validated.internal.regex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Детерминированный конечный автомат регулярного выражения, по которому строятся
+ * подходящие строки.
+ *
+ * <p>Выражение разбирается ({@link RegexParser}), переводится в НКА по Томпсону
+ * и детерминируется построением подмножеств. Переходы ДКА помечены
+ * непересекающимися множествами символов. Строка генерируется случайным
+ * блужданием от начального состояния: на каждом шаге выбирается переход или
+ * остановка в допускающем состоянии, причём только среди вариантов, из которых
+ * ещё можно закончить строку с длиной в заданных пределах
+ * ({@link #lengths(int, int)}). Поэтому каждая строка подходит по построению,
+ * без проверки и повторов.
+ *
+ * <p>Автоматы кэшируются по выражению и алфавиту ({@link #compile}), таблицы
+ * длин — в автомате по пределам длины. Экземпляр неизменяем и потокобезопасен.
+ */
+public final class RegexAutomaton {
+
+    /**
+     * Наибольшее число состояний ДКА; выражения сложнее отвергаются.
+     */
+    static final int MAX_STATES = 4_096;
+
+    private static final Map<Key, RegexAutomaton> CACHE = new ConcurrentHashMap<>();
+
+    private final String regexp;
+    private final boolean[] accepting;
+    private final CharSet[][] labels;
+    private final int[][] targets;
+    private final int shortest;
+    private final Map<Long, Lengths> lengthTables = new ConcurrentHashMap<>();
+
+    private RegexAutomaton(String regexp, boolean[] accepting, CharSet[][] labels, int[][] targets) {
+        this.regexp = regexp;
+        this.accepting = accepting;
+        this.labels = labels;
+        this.targets = targets;
+        this.shortest = shortestAccepted();
+    }
+
+    /**
+     * Символы, которыми заменяются точка и отрицательные классы ({@code [^..]}, {@code \D}, ...).
+     * Явно перечисленные в выражении символы используются как есть.
+     */
+    public enum Alphabet {
+        /**
+         * Печатные символы ASCII (от пробела до {@code ~}).
+         */
+        PRINTABLE(CharSet.range(' ', '~')),
+        /**
+         * Латинские буквы и цифры: подставленные символы не нарушают
+         * формат адреса электронной почты.
+         */
+        ALPHANUMERIC(CharSet.range('a', 'z').union(CharSet.range('A', 'Z')).union(CharSet.range('0', '9')));
+
+        private final CharSet chars;
+
+        Alphabet(CharSet chars) {
+            this.chars = chars;
+        }
+    }
+
+    /**
+     * Автомат для выражения (из кэша или построенный заново).
+     *
+     * @throws IllegalArgumentException если выражение использует неподдерживаемые
+     *                                  конструкции ({@link RegexParser}) или автомат слишком велик
+     */
+    public static RegexAutomaton compile(String regexp, Alphabet alphabet) {
+        Objects.requireNonNull(regexp, "Регулярное выражение не может быть null");
+        Objects.requireNonNull(alphabet, "Алфавит не может быть null");
+        Key key = new Key(regexp, alphabet);
+        RegexAutomaton automaton = CACHE.get(key);
+        if (automaton == null) {
+            automaton = build(regexp, alphabet);
+            CACHE.putIfAbsent(key, automaton);
+        }
+        return automaton;
+    }
+
+    /**
+     * Длина самой короткой подходящей строки или -1, если язык пуст.
+     */
+    public int shortestLength() {
+        return shortest;
+    }
+
+    /**
+     * Таблица для генерации строк с длиной из {@code [minLength, maxLength]}.
+     *
+     * @throws IllegalArgumentException если подходящих строк такой длины нет
+     */
+    public Lengths lengths(int minLength, int maxLength) {
+        long key = ((long) minLength << 32) | (maxLength & 0xFFFFFFFFL);
+        Lengths table = lengthTables.get(key);
+        if (table == null) {
+            table = new Lengths(minLength, maxLength);
+            lengthTables.putIfAbsent(key, table);
+        }
+        return table;
+    }
+
+    /**
+     * Строки автомата с длиной в заданных пределах.
+     */
+    public final class Lengths {
+        private final int minLength;
+        private final int maxLength;
+        /**
+         * {@code viable[length][state]}: из состояния, достигнутого строкой длины
+         * {@code length}, можно закончить строку с длиной в пределах.
+         */
+        private final boolean[][] viable;
+
+        private Lengths(int minLength, int maxLength) {
+            if (minLength < 0 || maxLength < minLength) {
+                throw new IllegalArgumentException("Некорректные пределы длины: [" + minLength + ", " +
+                        maxLength + "]");
+            }
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.viable = new boolean[maxLength + 1][];
+            for (int length = maxLength; length >= 0; length--) {
+                boolean[] row = new boolean[accepting.length];
+                for (int state = 0; state < accepting.length; state++) {
+                    row[state] = (accepting[state] && length >= minLength)
+                            || (length < maxLength && anyViable(targets[state], viable[length + 1]));
+                }
+                viable[length] = row;
+            }
+            if (!viable[0][0]) {
+                throw new IllegalArgumentException("Нет строк длины от " + minLength + " до " + maxLength +
+                        ", подходящих под выражение: " + regexp);
+            }
+        }
+
+        /**
+         * Случайная строка, подходящая под выражение, с длиной в пределах таблицы.
+         */
+        public String generate(RandomGenerator random) {
+            StringBuilder result = new StringBuilder(Math.min(maxLength, 64));
+            int state = 0;
+            for (int length = 0; ; length++) {
+                boolean canStop = accepting[state] && length >= minLength;
+                int[] next = targets[state];
+                int options = canStop ? 1 : 0;
+                if (length < maxLength) {
+                    for (int target : next) {
+                        if (viable[length + 1][target]) {
+                            options++;
+                        }
+                    }
+                }
+                int choice = random.nextInt(options);
+                if (canStop && choice-- == 0) {
+                    return result.toString();
+                }
+                for (int i = 0; i < next.length; i++) {
+                    if (viable[length + 1][next[i]] && choice-- == 0) {
+                        CharSet label = labels[state][i];
+                        result.append((char) label.charAt(random.nextInt(label.size())));
+                        state = next[i];
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean anyViable(int[] targets, boolean[] viableNext) {
+        for (int target : targets) {
+            if (viableNext[target]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int shortestAccepted() {
+        int[] distance = new int[accepting.length];
+        Arrays.fill(distance, -1);
+        Deque<Integer> queue = new ArrayDeque<>();
+        distance[0] = 0;
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            if (accepting[state]) {
+                return distance[state];
+            }
+            for (int target : targets[state]) {
+                if (distance[target] < 0) {
+                    distance[target] = distance[state] + 1;
+                    queue.add(target);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static RegexAutomaton build(String regexp, Alphabet alphabet) {
+        Nfa nfa = new Nfa();
+        int[] fragment = nfa.add(RegexParser.parse(regexp, alphabet.chars));
+
+        Map<BitSet, Integer> ids = new HashMap<>();
+        List<BitSet> states = new ArrayList<>();
+        List<CharSet[]> labels = new ArrayList<>();
+        List<int[]> targets = new ArrayList<>();
+
+        BitSet start = nfa.closure(single(fragment[0]));
+        ids.put(start, 0);
+        states.add(start);
+        for (int current = 0; current < states.size(); current++) {
+            BitSet set = states.get(current);
+
+            // Границы элементарных интервалов, на которых переходы НКА не меняются
+            TreeSet<Integer> cuts = new TreeSet<>();
+            for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s + 1)) {
+                for (Nfa.Edge edge : nfa.edges(s)) {
+                    for (int r = 0; r < edge.chars().rangeCount(); r++) {
+                        cuts.add(edge.chars().lo(r));
+                        cuts.add(edge.chars().hi(r) + 1);
+                    }
+                }
+            }
+
+            Map<Integer, CharSet> byTarget = new HashMap<>();
+            List<Integer> order = new ArrayList<>();
+            Integer lo = null;
+            for (int cut : cuts) {
+                if (lo != null) {
+                    BitSet moved = new BitSet();
+                    for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s + 1)) {
+                        for (Nfa.Edge edge : nfa.edges(s)) {
+                            if (edge.chars().contains(lo)) {
+                                moved.set(edge.target());
+                            }
+                        }
+                    }
+                    if (!moved.isEmpty()) {
+                        BitSet closed = nfa.closure(moved);
+                        Integer id = ids.get(closed);
+                        if (id == null) {
+                            if (states.size() == MAX_STATES) {
+                                throw new IllegalArgumentException("Автомат регулярного выражения слишком велик (более " +
+                                        MAX_STATES + " состояний): " + regexp);
+                            }
+                            id = states.size();
+                            ids.put(closed, id);
+                            states.add(closed);
+                        }
+                        CharSet interval = CharSet.range(lo, cut - 1);
+                        CharSet previous = byTarget.get(id);
+                        if (previous == null) {
+                            order.add(id);
+                        }
+                        byTarget.put(id, previous == null ? interval : previous.union(interval));
+                    }
+                }
+                lo = cut;
+            }
+
+            CharSet[] stateLabels = new CharSet[order.size()];
+            int[] stateTargets = new int[order.size()];
+            for (int i = 0; i < order.size(); i++) {
+                stateTargets[i] = order.get(i);
+                stateLabels[i] = byTarget.get(order.get(i));
+            }
+            labels.add(stateLabels);
+            targets.add(stateTargets);
+        }
+
+        boolean[] accepting = new boolean[states.size()];
+        for (int i = 0; i < accepting.length; i++) {
+            accepting[i] = states.get(i).get(fragment[1]);
+        }
+        return new RegexAutomaton(regexp, accepting, labels.toArray(new CharSet[0][]), targets.toArray(new int[0][]));
+    }
+
+    private static BitSet single(int state) {
+        BitSet set = new BitSet();
+        set.set(state);
+        return set;
+    }
+
+    private record Key(String regexp, Alphabet alphabet) {
+    }
+
+    /**
+     * НКА Томпсона: переходы по множествам символов и ε-переходы.
+     */
+    private static final class Nfa {
+
+        record Edge(CharSet chars, int target) {
+        }
+
+        private final List<List<Edge>> edges = new ArrayList<>();
+        private final List<List<Integer>> epsilon = new ArrayList<>();
+
+        List<Edge> edges(int state) {
+            return edges.get(state);
+        }
+
+        /**
+         * Добавляет фрагмент для узла и возвращает {@code {начало, конец}}.
+         */
+        int[] add(RegexParser.Node node) {
+            if (node instanceof RegexParser.Chars chars) {
+                int from = newState();
+                int to = newState();
+                edges.get(from).add(new Edge(chars.chars(), to));
+                return new int[]{from, to};
+            }
+            if (node instanceof RegexParser.Concat concat) {
+                int from = newState();
+                int last = from;
+                for (RegexParser.Node item : concat.items()) {
+                    int[] fragment = add(item);
+                    epsilon.get(last).add(fragment[0]);
+                    last = fragment[1];
+                }
+                return new int[]{from, last};
+            }
+            if (node instanceof RegexParser.Alternation alternation) {
+                int from = newState();
+                int to = newState();
+                for (RegexParser.Node option : alternation.options()) {
+                    int[] fragment = add(option);
+                    epsilon.get(from).add(fragment[0]);
+                    epsilon.get(fragment[1]).add(to);
+                }
+                return new int[]{from, to};
+            }
+            RegexParser.Repeat repeat = (RegexParser.Repeat) node;
+            int from = newState();
+            int last = from;
+            for (int i = 0; i < repeat.min(); i++) {
+                int[] fragment = add(repeat.node());
+                epsilon.get(last).add(fragment[0]);
+                last = fragment[1];
+            }
+            if (repeat.max() < 0) {
+                int[] loop = add(repeat.node());
+                epsilon.get(last).add(loop[0]);
+                epsilon.get(loop[1]).add(loop[0]);
+                int to = newState();
+                epsilon.get(last).add(to);
+                epsilon.get(loop[1]).add(to);
+                return new int[]{from, to};
+            }
+            int to = newState();
+            epsilon.get(last).add(to);
+            for (int i = repeat.min(); i < repeat.max(); i++) {
+                int[] fragment = add(repeat.node());
+                epsilon.get(last).add(fragment[0]);
+                epsilon.get(fragment[1]).add(to);
+                last = fragment[1];
+            }
+            return new int[]{from, to};
+        }
+
+        BitSet closure(BitSet states) {
+            BitSet closed = (BitSet) states.clone();
+            Deque<Integer> stack = new ArrayDeque<>();
+            for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+                stack.push(s);
+            }
+            while (!stack.isEmpty()) {
+                for (int next : epsilon.get(stack.pop())) {
+                    if (!closed.get(next)) {
+                        closed.set(next);
+                        stack.push(next);
+                    }
+                }
+            }
+            return closed;
+        }
+
+        private int newState() {
+            edges.add(new ArrayList<>());
+            epsilon.add(new ArrayList<>());
+            return edges.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package io.github.victoriasemkina.validated.internal.regex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Разбор подмножества синтаксиса {@link java.util.regex.Pattern}, описывающего
+ * регулярные языки: символы и классы символов (в том числе {@code \d}, {@code \w},
+ * {@code \s} и их отрицания), точка, группы (в том числе именованные и незахватывающие),
+ * альтернатива и кванторы {@code * + ? {n} {n,} {n,m}} (ленивые — тоже).
+ * Якоря {@code ^} и {@code $} допускаются только по краям выражения.
+ *
+ * <p>Конструкции, которые нельзя выразить автоматом или которые меняют смысл
+ * совпадения (обратные ссылки, просмотр вперёд и назад, атомарные группы,
+ * сверхжадные кванторы, границы слова, {@code \p{..}}, пересечения классов),
+ * отвергаются с {@link IllegalArgumentException}.
+ */
+final class RegexParser {
+
+    /**
+     * Наибольшее число повторений в квантификаторе {@code {n,m}}.
+     */
+    static final int MAX_REPEAT = 1_000;
+
+    private static final CharSet DIGITS = CharSet.range('0', '9');
+    private static final CharSet WORD = CharSet.range('a', 'z').union(CharSet.range('A', 'Z'))
+            .union(DIGITS).union(CharSet.of('_'));
+    private static final CharSet SPACE = CharSet.of(' ').union(CharSet.range('\t', '\r'));
+
+    private final String regexp;
+    private final CharSet universe;
+    private int pos;
+    private int end;
+
+    private RegexParser(String regexp, CharSet universe) {
+        this.regexp = regexp;
+        this.universe = universe;
+    }
+
+    /**
+     * @param universe символы, которыми заменяются точка и отрицательные классы
+     */
+    static Node parse(String regexp, CharSet universe) {
+        RegexParser parser = new RegexParser(regexp, universe);
+        parser.end = regexp.length();
+        if (regexp.startsWith("^")) {
+            parser.pos = 1;
+        }
+        if (endsWithAnchor(regexp) && parser.end > parser.pos) {
+            parser.end--;
+        }
+        Node node = parser.alternation();
+        if (parser.pos < parser.end) {
+            throw parser.unsupported("лишняя ')'");
+        }
+        return node;
+    }
+
+    /**
+     * Узел разобранного выражения.
+     */
+    sealed interface Node permits Chars, Concat, Alternation, Repeat {
+    }
+
+    record Chars(CharSet chars) implements Node {
+    }
+
+    record Concat(List<Node> items) implements Node {
+    }
+
+    record Alternation(List<Node> options) implements Node {
+    }
+
+    /**
+     * @param max наибольшее число повторений или -1 без ограничения
+     */
+    record Repeat(Node node, int min, int max) implements Node {
+    }
+
+    private Node alternation() {
+        List<Node> options = new ArrayList<>();
+        options.add(concatenation());
+        while (pos < end && regexp.charAt(pos) == '|') {
+            pos++;
+            options.add(concatenation());
+        }
+        return options.size() == 1 ? options.get(0) : new Alternation(List.copyOf(options));
+    }
+
+    private Node concatenation() {
+        List<Node> items = new ArrayList<>();
+        while (pos < end && regexp.charAt(pos) != '|' && regexp.charAt(pos) != ')') {
+            Node atom = atom();
+            if (atom != null) {
+                items.add(quantified(atom));
+            }
+        }
+        return items.size() == 1 ? items.get(0) : new Concat(List.copyOf(items));
+    }
+
+    private Node quantified(Node atom) {
+        Node node = atom;
+        while (pos < end) {
+            char c = regexp.charAt(pos);
+            int min;
+            int max;
+            if (c == '*') {
+                min = 0;
+                max = -1;
+                pos++;
+            } else if (c == '+') {
+                min = 1;
+                max = -1;
+                pos++;
+            } else if (c == '?') {
+                min = 0;
+                max = 1;
+                pos++;
+            } else if (c == '{') {
+                pos++;
+                min = number();
+                max = min;
+                if (pos < end && regexp.charAt(pos) == ',') {
+                    pos++;
+                    max = pos < end && regexp.charAt(pos) == '}' ? -1 : number();
+                }
+                expect('}');
+                if (min > MAX_REPEAT || max > MAX_REPEAT) {
+                    throw unsupported("слишком много повторений");
+                }
+            } else {
+                return node;
+            }
+            if (pos < end && regexp.charAt(pos) == '?') {
+                pos++; // ленивый квантор задаёт тот же язык
+            } else if (pos < end && regexp.charAt(pos) == '+') {
+                throw unsupported("сверхжадный квантор");
+            }
+            node = new Repeat(node, min, max);
+        }
+        return node;
+    }
+
+    /**
+     * Атом выражения или null для конструкций без символов (встроенные флаги).
+     */
+    private Node atom() {
+        char c = regexp.charAt(pos++);
+        switch (c) {
+            case '(':
+                return group();
+            case '[':
+                return new Chars(charClass());
+            case '.':
+                return new Chars(universe);
+            case '\\':
+                return new Chars(escape(false));
+            case '^':
+            case '$':
+                throw unsupported("якорь внутри выражения");
+            default:
+                if (Character.isSurrogate(c)) {
+                    throw unsupported("символ вне BMP");
+                }
+                return new Chars(CharSet.of(c));
+        }
+    }
+
+    private Node group() {
+        if (pos < end && regexp.charAt(pos) == '?') {
+            pos++;
+            char kind = pos < end ? regexp.charAt(pos) : ')';
+            if (kind == ':') {
+                pos++;
+            } else if (kind == '<' && pos + 1 < end && Character.isLetter(regexp.charAt(pos + 1))) {
+                int close = regexp.indexOf('>', pos);
+                if (close < 0) {
+                    throw unsupported("имя группы");
+                }
+                pos = close + 1;
+            } else if (isInlineFlag(kind)) {
+                while (pos < end && isInlineFlag(regexp.charAt(pos))) {
+                    pos++;
+                }
+                if (pos < end && regexp.charAt(pos) == ')') {
+                    pos++;
+                    return null;
+                }
+                expect(':');
+            } else {
+                throw unsupported("просмотр или атомарная группа");
+            }
+        }
+        Node inner = alternation();
+        expect(')');
+        return inner;
+    }
+
+    /**
+     * Флаги, не меняющие синтаксис выражения и множество подходящих строк,
+     * которые генерирует автомат.
+     */
+    private static boolean isInlineFlag(char c) {
+        return c == 'i' || c == 'm' || c == 's' || c == 'u' || c == 'U' || c == 'd' || c == '-';
+    }
+
+    private CharSet charClass() {
+        boolean negate = pos < end && regexp.charAt(pos) == '^';
+        if (negate) {
+            pos++;
+        }
+        CharSet chars = CharSet.EMPTY;
+        boolean first = true;
+        while (true) {
+            if (pos >= end) {
+                throw unsupported("незакрытый класс символов");
+            }
+            char c = regexp.charAt(pos);
+            if (c == ']' && !first) {
+                pos++;
+                break;
+            }
+            first = false;
+            if (c == '[' || (c == '&' && pos + 1 < end && regexp.charAt(pos + 1) == '&')) {
+                throw unsupported("вложенный класс или пересечение классов");
+            }
+            pos++;
+            CharSet item = c == '\\' ? escape(true) : CharSet.of(c);
+            if (pos + 1 < end && regexp.charAt(pos) == '-' && regexp.charAt(pos + 1) != ']'
+                    && item.size() == 1) {
+                pos++;
+                char next = regexp.charAt(pos++);
+                CharSet upper = next == '\\' ? escape(true) : CharSet.of(next);
+                if (upper.size() != 1 || next == '[') {
+                    throw unsupported("граница диапазона");
+                }
+                item = CharSet.range(item.charAt(0), upper.charAt(0));
+            }
+            chars = chars.union(item);
+        }
+        return negate ? universe.minus(chars) : chars;
+    }
+
+    private CharSet escape(boolean inClass) {
+        if (pos >= end) {
+            throw unsupported("одиночная '\\'");
+        }
+        char c = regexp.charAt(pos++);
+        switch (c) {
+            case 'd':
+                return DIGITS;
+            case 'D':
+                return universe.minus(DIGITS);
+            case 'w':
+                return WORD;
+            case 'W':
+                return universe.minus(WORD);
+            case 's':
+                return SPACE;
+            case 'S':
+                return universe.minus(SPACE);
+            case 't':
+                return CharSet.of('\t');
+            case 'n':
+                return CharSet.of('\n');
+            case 'r':
+                return CharSet.of('\r');
+            case 'f':
+                return CharSet.of('\f');
+            case 'a':
+                return CharSet.of('\u0007');
+            case 'e':
+                return CharSet.of('\u001B');
+            case 'x':
+                return CharSet.of(hex(2));
+            case 'u':
+                return CharSet.of(hex(4));
+            default:
+                if (Character.isLetterOrDigit(c)) {
+                    throw unsupported("\\" + c);
+                }
+                return CharSet.of(c);
+        }
+    }
+
+    private int hex(int digits) {
+        if (pos + digits > end) {
+            throw unsupported("шестнадцатеричный код");
+        }
+        int value = Integer.parseInt(regexp.substring(pos, pos + digits), 16);
+        pos += digits;
+        return value;
+    }
+
+    private int number() {
+        int start = pos;
+        while (pos < end && Character.isDigit(regexp.charAt(pos))) {
+            pos++;
+        }
+        if (start == pos || pos - start > 9) {
+            throw unsupported("число повторений");
+        }
+        return Integer.parseInt(regexp.substring(start, pos));
+    }
+
+    private void expect(char c) {
+        if (pos >= end || regexp.charAt(pos) != c) {
+            throw unsupported("ожидался символ '" + c + "'");
+        }
+        pos++;
+    }
+
+    private static boolean endsWithAnchor(String regexp) {
+        if (!regexp.endsWith("$")) {
+            return false;
+        }
+        int backslashes = 0;
+        for (int i = regexp.length() - 2; i >= 0 && regexp.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 0;
+    }
+
+    private IllegalArgumentException unsupported(String what) {
+        return new IllegalArgumentException("Конструкция регулярного выражения не поддерживается (" + what +
+                ") в позиции " + pos + ": " + regexp);
+    }
+}
@@ -2,7 +2,12 @@ package io.github.victoriasemkina.validated.model;
 
 import jakarta.validation.constraints.*;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -10,29 +15,109 @@ import java.util.Optional;
 /**
  * Неизменяемая запись (Record), описывающая поле класса и его ограничения валидации.
  * Использование Java 17 Record для моделирования данных.
+ *
+ * <p>Числовые границы ({@link NumericBounds}) выводятся из ограничений один раз
+ * при создании описания.
+ *
+ * <p>{@code annotatedType} — объявленный тип поля с type-use аннотациями
+ * (null, если описание создано вручную). Из него строятся описания элементов
+ * контейнеров: {@link #typeArgument(int)} для {@code List<@Email String>}
+ * и {@link #componentType()} для массивов.
  */
 public record FieldDescriptor(
         String name,
         Class<?> type,
         List<Annotation> constraints,
-        boolean isRequired
+        boolean isRequired,
+        NumericBounds numericBounds,
+        AnnotatedType annotatedType
 ) {
 
+    public FieldDescriptor(String name, Class<?> type, List<Annotation> constraints, boolean isRequired) {
+        this(name, type, constraints, isRequired, NumericBounds.from(constraints));
+    }
+
+    public FieldDescriptor(String name, Class<?> type, List<Annotation> constraints, boolean isRequired,
+                           NumericBounds numericBounds) {
+        this(name, type, constraints, isRequired, numericBounds, null);
+    }
+
     public static FieldDescriptor from(Field field) {
         Annotation[] annotations = field.getAnnotations();
-        boolean isRequired = Arrays.stream(annotations)
-                .anyMatch(a -> a.annotationType().equals(NotNull.class) ||
-                        a.annotationType().equals(NotBlank.class) ||
-                        a.annotationType().equals(NotEmpty.class));
+        List<Annotation> constraints = Arrays.asList(annotations);
 
         return new FieldDescriptor(
                 field.getName(),
                 field.getType(),
-                Arrays.asList(annotations),
-                isRequired
+                constraints,
+                isRequired(annotations),
+                NumericBounds.from(constraints),
+                field.getAnnotatedType()
         );
     }
 
+    /**
+     * Описание {@code index}-го аргумента типа ({@code List<@Email String>} → {@code @Email String})
+     * с тем же именем поля и type-use аннотациями аргумента в качестве ограничений.
+     *
+     * @return описание или null, если тип не параметризован или аргумент — wildcard
+     *         либо переменная типа
+     */
+    public FieldDescriptor typeArgument(int index) {
+        if (!(annotatedType instanceof AnnotatedParameterizedType parameterized)) {
+            return null;
+        }
+        AnnotatedType[] arguments = parameterized.getAnnotatedActualTypeArguments();
+        return index < arguments.length ? element(name, arguments[index]) : null;
+    }
+
+    /**
+     * Описание элемента массива с тем же именем поля. Без {@code annotatedType}
+     * у элемента нет ограничений.
+     *
+     * @return описание или null, если поле не массив
+     */
+    public FieldDescriptor componentType() {
+        if (!type.isArray()) {
+            return null;
+        }
+        if (annotatedType instanceof AnnotatedArrayType array) {
+            FieldDescriptor component = element(name, array.getAnnotatedGenericComponentType());
+            if (component != null) {
+                return component;
+            }
+        }
+        return new FieldDescriptor(name, type.getComponentType(), List.of(), false);
+    }
+
+    private static FieldDescriptor element(String name, AnnotatedType annotated) {
+        Class<?> raw = rawType(annotated.getType());
+        if (raw == null) {
+            return null;
+        }
+        Annotation[] annotations = annotated.getAnnotations();
+        List<Annotation> constraints = Arrays.asList(annotations);
+        return new FieldDescriptor(name, raw, constraints, isRequired(annotations),
+                NumericBounds.from(constraints), annotated);
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> raw) {
+            return raw;
+        }
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+            return raw;
+        }
+        return null;
+    }
+
+    private static boolean isRequired(Annotation[] annotations) {
+        return Arrays.stream(annotations)
+                .anyMatch(a -> a.annotationType().equals(NotNull.class) ||
+                        a.annotationType().equals(NotBlank.class) ||
+                        a.annotationType().equals(NotEmpty.class));
+    }
+
     /**
      * Проверяет, есть ли у поля ограничение указанного типа.
      */
@@ -58,6 +143,13 @@ public record FieldDescriptor(
         return findConstraint(Size.class);
     }
 
+    /**
+     * Возвращает ограничение @Pattern, если оно есть.
+     */
+    public Optional<Pattern> getPatternConstraint() {
+        return findConstraint(Pattern.class);
+    }
+
     /**
      * Проверяет, есть ли у поля ограничение @NotNull/@NotBlank/@NotEmpty.
      */
@@ -65,6 +157,17 @@ public record FieldDescriptor(
         return isRequired;
     }
 
+    /**
+     * Хэш только по имени и типу: описания используются как ключи кэшей
+     * (например, выбора генератора), а хэш аннотаций вычисляется рефлексивно
+     * по всем их атрибутам. Согласован с {@code equals}: равные описания
+     * всегда совпадают по имени и типу.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + type.hashCode();
+    }
+
     @Override
     public String toString() {
         return String.format("Field[name=%s, type=%s, constraints=%d, required=%s]",
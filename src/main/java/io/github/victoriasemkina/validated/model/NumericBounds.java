@@ -0,0 +1,237 @@
+package io.github.victoriasemkina.validated.model;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Negative;
+import jakarta.validation.constraints.NegativeOrZero;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Числовые границы поля, сведённые из {@code @Min}, {@code @Max}, {@code @Positive},
+ * {@code @PositiveOrZero}, {@code @Negative}, {@code @NegativeOrZero},
+ * {@code @DecimalMin} и {@code @DecimalMax}. При нескольких ограничениях
+ * берётся самое строгое. Отсутствующая граница — null.
+ *
+ * <p>Вычисляются один раз при разборе поля ({@link FieldDescriptor#from}) вместе
+ * с целочисленными и {@code double}-границами, поэтому генераторы не разбирают
+ * аннотации и не выполняют операций с {@link BigDecimal} на каждое значение.
+ */
+public final class NumericBounds {
+
+    public static final NumericBounds UNBOUNDED = new NumericBounds(null, true, null, true);
+
+    private final BigDecimal min;
+    private final boolean minInclusive;
+    private final BigDecimal max;
+    private final boolean maxInclusive;
+    private final long lowerLong;
+    private final long upperLong;
+    private final double lowerDouble;
+    private final double upperDouble;
+
+    public NumericBounds(BigDecimal min, boolean minInclusive, BigDecimal max, boolean maxInclusive) {
+        this.min = min;
+        this.minInclusive = minInclusive;
+        this.max = max;
+        this.maxInclusive = maxInclusive;
+        this.lowerLong = computeLowerLong();
+        this.upperLong = computeUpperLong();
+        this.lowerDouble = computeLowerDouble();
+        this.upperDouble = computeUpperDouble();
+    }
+
+    public static NumericBounds from(List<Annotation> constraints) {
+        BigDecimal min = null;
+        boolean minInclusive = true;
+        BigDecimal max = null;
+        boolean maxInclusive = true;
+
+        for (Annotation constraint : constraints) {
+            BigDecimal lower = null;
+            boolean lowerInclusive = true;
+            BigDecimal upper = null;
+            boolean upperInclusive = true;
+
+            if (constraint instanceof Min minConstraint) {
+                lower = BigDecimal.valueOf(minConstraint.value());
+            } else if (constraint instanceof Max maxConstraint) {
+                upper = BigDecimal.valueOf(maxConstraint.value());
+            } else if (constraint instanceof Positive) {
+                lower = BigDecimal.ZERO;
+                lowerInclusive = false;
+            } else if (constraint instanceof PositiveOrZero) {
+                lower = BigDecimal.ZERO;
+            } else if (constraint instanceof Negative) {
+                upper = BigDecimal.ZERO;
+                upperInclusive = false;
+            } else if (constraint instanceof NegativeOrZero) {
+                upper = BigDecimal.ZERO;
+            } else if (constraint instanceof DecimalMin decimalMin) {
+                lower = new BigDecimal(decimalMin.value());
+                lowerInclusive = decimalMin.inclusive();
+            } else if (constraint instanceof DecimalMax decimalMax) {
+                upper = new BigDecimal(decimalMax.value());
+                upperInclusive = decimalMax.inclusive();
+            }
+
+            if (lower != null) {
+                int cmp = min == null ? 1 : lower.compareTo(min);
+                if (cmp > 0 || (cmp == 0 && !lowerInclusive)) {
+                    min = lower;
+                    minInclusive = lowerInclusive;
+                }
+            }
+            if (upper != null) {
+                int cmp = max == null ? -1 : upper.compareTo(max);
+                if (cmp < 0 || (cmp == 0 && !upperInclusive)) {
+                    max = upper;
+                    maxInclusive = upperInclusive;
+                }
+            }
+        }
+
+        return min == null && max == null ? UNBOUNDED : new NumericBounds(min, minInclusive, max, maxInclusive);
+    }
+
+    /**
+     * Нижняя граница или null.
+     */
+    public BigDecimal min() {
+        return min;
+    }
+
+    public boolean minInclusive() {
+        return minInclusive;
+    }
+
+    /**
+     * Верхняя граница или null.
+     */
+    public BigDecimal max() {
+        return max;
+    }
+
+    public boolean maxInclusive() {
+        return maxInclusive;
+    }
+
+    public boolean hasMin() {
+        return min != null;
+    }
+
+    public boolean hasMax() {
+        return max != null;
+    }
+
+    /**
+     * Наименьшее допустимое целое, не меньше {@code typeMin}
+     * (или {@code typeMin}, если нижней границы нет).
+     */
+    public long lowerLong(long typeMin) {
+        return Math.max(lowerLong, typeMin);
+    }
+
+    /**
+     * Наибольшее допустимое целое, не больше {@code typeMax}
+     * (или {@code typeMax}, если верхней границы нет).
+     */
+    public long upperLong(long typeMax) {
+        return Math.min(upperLong, typeMax);
+    }
+
+    /**
+     * Наименьшее допустимое значение double (или {@code fallback} без нижней границы).
+     */
+    public double lowerDouble(double fallback) {
+        return min != null ? lowerDouble : fallback;
+    }
+
+    /**
+     * Наибольшее допустимое значение double (или {@code fallback} без верхней границы).
+     */
+    public double upperDouble(double fallback) {
+        return max != null ? upperDouble : fallback;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof NumericBounds other
+                && minInclusive == other.minInclusive && maxInclusive == other.maxInclusive
+                && Objects.equals(min, other.min) && Objects.equals(max, other.max);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(min, minInclusive, max, maxInclusive);
+    }
+
+    @Override
+    public String toString() {
+        return (min == null ? "(-∞" : (minInclusive ? "[" : "(") + min) + ", "
+                + (max == null ? "+∞)" : max + (maxInclusive ? "]" : ")"));
+    }
+
+    private long computeLowerLong() {
+        if (min == null) {
+            return Long.MIN_VALUE;
+        }
+        BigDecimal lower = minInclusive
+                ? min.setScale(0, RoundingMode.CEILING)
+                : min.setScale(0, RoundingMode.FLOOR).add(BigDecimal.ONE);
+        return clamp(lower, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private long computeUpperLong() {
+        if (max == null) {
+            return Long.MAX_VALUE;
+        }
+        BigDecimal upper = maxInclusive
+                ? max.setScale(0, RoundingMode.FLOOR)
+                : max.setScale(0, RoundingMode.CEILING).subtract(BigDecimal.ONE);
+        return clamp(upper, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Сравнение через {@link BigDecimal#valueOf(double)} — так же double сравнивает
+     * с {@code @DecimalMin}/{@code @DecimalMax} Hibernate Validator.
+     */
+    private double computeLowerDouble() {
+        if (min == null) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        double lower = min.doubleValue();
+        int cmp = BigDecimal.valueOf(lower).compareTo(min);
+        return cmp < 0 || (cmp == 0 && !minInclusive) ? Math.nextUp(lower) : lower;
+    }
+
+    private double computeUpperDouble() {
+        if (max == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double upper = max.doubleValue();
+        int cmp = BigDecimal.valueOf(upper).compareTo(max);
+        return cmp > 0 || (cmp == 0 && !maxInclusive) ? Math.nextDown(upper) : upper;
+    }
+
+    private static long clamp(BigDecimal value, long lowest, long highest) {
+        if (value.compareTo(BigDecimal.valueOf(lowest)) < 0) {
+            return lowest;
+        }
+        if (value.compareTo(BigDecimal.valueOf(highest)) > 0) {
+            return highest;
+        }
+        return value.longValueExact();
+    }
+}
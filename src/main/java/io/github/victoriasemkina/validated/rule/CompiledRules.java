@@ -0,0 +1,185 @@
+package io.github.victoriasemkina.validated.rule;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Правила, заранее разложенные по полям конкретного класса ({@link RuleEngine#compile}).
+ *
+ * <p>Для каждого поля (по его номеру в порядке генерации) хранится только список
+ * правил-кандидатов в порядке приоритета. Правила с объявленными
+ * {@link Rule#inputs() входами} попадают в кандидаты лишь тогда, когда хотя бы один
+ * вход генерируется раньше поля, и при генерации не перепроверяются через
+ * {@link Rule#matches}. Номера полей-входов сохраняются в {@link CompiledRule#inputSlots()},
+ * а правила, умеющие читать входы по слотам ({@link SlotBoundRule}), привязываются
+ * к разметке здесь же, один раз.
+ *
+ * <p>Номер поля в порядке генерации служит и слотом в {@link FieldValues}:
+ * сопоставление «имя → слот» хранится здесь и разделяется всеми контекстами.
+ *
+ * <p>Экземпляр неизменяем и может использоваться из нескольких потоков.
+ */
+public final class CompiledRules {
+
+    private static final CompiledRule[] NO_RULES = new CompiledRule[0];
+
+    private final String[] fieldNames;
+    private final Map<String, Integer> slotsByName;
+    private final CompiledRule[][] candidates;
+    private final Rule[][] boundRules;
+    private final boolean[] read;
+
+    CompiledRules(String[] fieldNames, CompiledRule[][] candidates) {
+        this.fieldNames = fieldNames;
+        this.candidates = candidates;
+        this.read = readSlots(fieldNames.length, candidates);
+        Map<String, Integer> slots = new HashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            slots.put(fieldNames[i], i);
+        }
+        this.slotsByName = Map.copyOf(slots);
+        this.boundRules = bind(candidates);
+    }
+
+    /**
+     * Новый пустой контекст значений с разметкой слотов этих правил.
+     * Контекст рассчитан на многократное использование: см. {@link FieldValues#clear()}.
+     */
+    public FieldValues newValues() {
+        return new FieldValues(this);
+    }
+
+    int fieldCount() {
+        return fieldNames.length;
+    }
+
+    String fieldName(int slot) {
+        return fieldNames[slot];
+    }
+
+    int slot(String fieldName) {
+        Integer slot = slotsByName.get(fieldName);
+        return slot != null ? slot : -1;
+    }
+
+    static CompiledRule[] noRules() {
+        return NO_RULES;
+    }
+
+    /**
+     * Есть ли у поля хотя бы одно правило-кандидат.
+     */
+    public boolean hasCandidates(int fieldIndex) {
+        return candidates[fieldIndex].length > 0;
+    }
+
+    /**
+     * Может ли значение поля понадобиться правилам других полей. Если нет, его
+     * не обязательно записывать в {@link FieldValues}: так примитивные значения
+     * попадают в объект без упаковки.
+     */
+    public boolean isRead(int fieldIndex) {
+        return read[fieldIndex];
+    }
+
+    /**
+     * Может ли правило поля {@code fieldIndex} читать значение поля {@code inputIndex}:
+     * поле — объявленный вход одного из кандидатов или кандидат читает контекст целиком.
+     * Если такое поле заменили, значение {@code fieldIndex} нужно вывести заново.
+     */
+    public boolean dependsOn(int fieldIndex, int inputIndex) {
+        for (CompiledRule candidate : candidates[fieldIndex]) {
+            if (candidate.checkMatches()) {
+                return true;
+            }
+            for (int slot : candidate.inputSlots()) {
+                if (slot == inputIndex) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Правила-кандидаты поля в порядке приоритета.
+     */
+    public List<CompiledRule> candidates(int fieldIndex) {
+        return List.of(candidates[fieldIndex]);
+    }
+
+    /**
+     * Применяет первое подходящее правило к полю.
+     *
+     * @param fieldIndex номер поля в порядке генерации, переданном в {@link RuleEngine#compile}
+     * @return значение от правила или null, если ни одно правило не сработало
+     */
+    public Object apply(int fieldIndex, FieldDescriptor field, Map<String, Object> context,
+                        GenerationContext generation) {
+        CompiledRule[] fieldCandidates = candidates[fieldIndex];
+        Rule[] fieldRules = boundRules[fieldIndex];
+        for (int i = 0; i < fieldCandidates.length; i++) {
+            Rule rule = fieldRules[i];
+            if (fieldCandidates[i].checkMatches() && !rule.matches(field, context)) {
+                continue;
+            }
+            Object result = rule.generate(field, context, generation);
+            // Защита от null — если правило вернуло null, пропускаем его
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Правила кандидатов, привязанные к разметке этих правил, если они это умеют.
+     */
+    private Rule[][] bind(CompiledRule[][] candidates) {
+        Rule[][] bound = new Rule[candidates.length][];
+        for (int field = 0; field < candidates.length; field++) {
+            bound[field] = new Rule[candidates[field].length];
+            for (int i = 0; i < candidates[field].length; i++) {
+                Rule rule = candidates[field][i].rule();
+                bound[field][i] = rule instanceof SlotBoundRule slotBound ? slotBound.bind(this) : rule;
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Слоты, которые читают правила: входы правил, а если хоть одно правило
+     * не объявило входы (и читает контекст целиком через {@link Rule#matches}) — все.
+     */
+    private static boolean[] readSlots(int fieldCount, CompiledRule[][] candidates) {
+        boolean[] read = new boolean[fieldCount];
+        for (CompiledRule[] fieldCandidates : candidates) {
+            for (CompiledRule candidate : fieldCandidates) {
+                if (candidate.checkMatches()) {
+                    Arrays.fill(read, true);
+                    return read;
+                }
+                for (int slot : candidate.inputSlots()) {
+                    read[slot] = true;
+                }
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Правило-кандидат для поля.
+     *
+     * @param rule         правило
+     * @param checkMatches нужно ли вызывать {@link Rule#matches} при генерации
+     *                     (правило не объявило входы)
+     * @param inputSlots   номера полей-входов, генерируемых раньше целевого поля
+     */
+    public record CompiledRule(Rule rule, boolean checkMatches, int[] inputSlots) {
+    }
+}
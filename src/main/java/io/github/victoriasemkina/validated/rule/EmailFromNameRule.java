@@ -5,19 +5,23 @@ import io.github.victoriasemkina.validated.model.FieldDescriptor;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Правило для генерации корпоративного email на основе имени пользователя.
  * Формат: {firstName}.{lastName}@company.com
  */
-public class EmailFromNameRule implements Rule {
+public class EmailFromNameRule implements SlotBoundRule {
 
     // Поля с именем в порядке приоритета
-    private static final List<String> NAME_FIELDS = Arrays.asList(
+    private static final List<String> NAME_FIELDS = List.of(
             "firstName", "first_name", "givenName",
             "lastName", "last_name", "surname",
             "name", "fullName", "full_name"
     );
+    private static final String[] FIRST_NAME_FIELDS = {"firstName", "first_name", "givenName", "name"};
+    private static final String[] LAST_NAME_FIELDS = {"lastName", "last_name", "surname"};
+    private static final Set<String> INPUTS = Set.copyOf(NAME_FIELDS);
 
     private static final String COMPANY_DOMAIN = "company.com";
     private static final int PRIORITY = 100;
@@ -25,21 +29,48 @@ public class EmailFromNameRule implements Rule {
     @Override
     public boolean matches(FieldDescriptor field, Map<String, Object> context) {
         // 1. Проверяем, что поле содержит "email" или "mail" в названии
+        // 2. Проверяем наличие имени в контексте
+        return appliesTo(field) && hasNameInContext(context);
+    }
+
+    /**
+     * Поле содержит "email" или "mail" в названии.
+     */
+    @Override
+    public boolean appliesTo(FieldDescriptor field) {
         String fieldName = field.name().toLowerCase();
-        boolean isEmailField = fieldName.contains("email") || fieldName.contains("mail");
-        if (!isEmailField) {
-            return false;
-        }
+        return fieldName.contains("email") || fieldName.contains("mail");
+    }
 
-        // 2. Проверяем наличие имени в контексте
-        return hasNameInContext(context);
+    @Override
+    public Set<String> inputs() {
+        return INPUTS;
     }
 
     @Override
     public Object generate(FieldDescriptor field, Map<String, Object> context) {
-        String firstName = extractField(context, "firstName", "first_name", "givenName", "name");
-        String lastName = extractField(context, "lastName", "last_name", "surname");
+        return email(extractField(context, FIRST_NAME_FIELDS), extractField(context, LAST_NAME_FIELDS));
+    }
+
+    @Override
+    public int getPriority() {
+        return PRIORITY;
+    }
 
+    /**
+     * Вариант правила, который берёт имя из заранее найденных слотов контекста.
+     */
+    @Override
+    public Rule bind(CompiledRules layout) {
+        // Наследник мог переопределить генерацию — тогда правило не подменяется
+        if (getClass() != EmailFromNameRule.class) {
+            return this;
+        }
+        return new Bound(layout, slots(layout, NAME_FIELDS.toArray(new String[0])),
+                slots(layout, FIRST_NAME_FIELDS), slots(layout, LAST_NAME_FIELDS));
+    }
+
+    private static String email(String firstName, String lastName) {
         // Формируем локальную часть email
         StringBuilder localPart = new StringBuilder();
         if (firstName != null && !firstName.trim().isEmpty()) {
@@ -60,29 +91,39 @@ public class EmailFromNameRule implements Rule {
         return localPart.toString() + "@" + COMPANY_DOMAIN;
     }
 
-    @Override
-    public int getPriority() {
-        return PRIORITY;
-    }
-
     private boolean hasNameInContext(Map<String, Object> context) {
-        return NAME_FIELDS.stream()
-                .anyMatch(context::containsKey);
+        for (String nameField : NAME_FIELDS) {
+            if (context.containsKey(nameField)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private String extractField(Map<String, Object> context, String... candidates) {
+    private static String extractField(Map<String, Object> context, String... candidates) {
         for (String candidate : candidates) {
             if (context.containsKey(candidate)) {
-                Object value = context.get(candidate);
-                if (value instanceof String str && !str.trim().isEmpty()) {
-                    return str.trim();
+                String name = nonBlank(context.get(candidate));
+                if (name != null) {
+                    return name;
                 }
             }
         }
         return null;
     }
 
-    private String normalize(String input) {
+    private static String nonBlank(Object value) {
+        return value instanceof String str && !str.trim().isEmpty() ? str.trim() : null;
+    }
+
+    /**
+     * Слоты полей, которые есть в разметке, в порядке {@code names}.
+     */
+    private static int[] slots(CompiledRules layout, String[] names) {
+        return Arrays.stream(names).mapToInt(layout::slot).filter(slot -> slot >= 0).toArray();
+    }
+
+    private static String normalize(String input) {
         if (input == null || input.trim().isEmpty()) {
             return "";
         }
@@ -91,4 +132,74 @@ public class EmailFromNameRule implements Rule {
         return input.toLowerCase()
                 .replaceAll("[^a-z0-9]", ""); // удаляем всё кроме букв и цифр
     }
-}
\ No newline at end of file
+
+    /**
+     * Правило, привязанное к разметке: поля имени читаются из слотов {@link FieldValues}
+     * без поиска по именам; для контекста другой разметки — как исходное правило.
+     */
+    private final class Bound implements Rule {
+
+        private final CompiledRules layout;
+        private final int[] nameSlots;
+        private final int[] firstNameSlots;
+        private final int[] lastNameSlots;
+
+        private Bound(CompiledRules layout, int[] nameSlots, int[] firstNameSlots, int[] lastNameSlots) {
+            this.layout = layout;
+            this.nameSlots = nameSlots;
+            this.firstNameSlots = firstNameSlots;
+            this.lastNameSlots = lastNameSlots;
+        }
+
+        @Override
+        public boolean matches(FieldDescriptor field, Map<String, Object> context) {
+            if (!(context instanceof FieldValues values) || !values.isFor(layout)) {
+                return EmailFromNameRule.this.matches(field, context);
+            }
+            if (!appliesTo(field)) {
+                return false;
+            }
+            for (int slot : nameSlots) {
+                if (values.isSet(slot)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean appliesTo(FieldDescriptor field) {
+            return EmailFromNameRule.this.appliesTo(field);
+        }
+
+        @Override
+        public Set<String> inputs() {
+            return INPUTS;
+        }
+
+        @Override
+        public Object generate(FieldDescriptor field, Map<String, Object> context) {
+            if (!(context instanceof FieldValues values) || !values.isFor(layout)) {
+                return EmailFromNameRule.this.generate(field, context);
+            }
+            return email(extract(values, firstNameSlots), extract(values, lastNameSlots));
+        }
+
+        @Override
+        public int getPriority() {
+            return PRIORITY;
+        }
+
+        private String extract(FieldValues values, int[] slots) {
+            for (int slot : slots) {
+                if (values.isSet(slot)) {
+                    String name = nonBlank(values.get(slot));
+                    if (name != null) {
+                        return name;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
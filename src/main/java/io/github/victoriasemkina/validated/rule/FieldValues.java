@@ -0,0 +1,165 @@
+package io.github.victoriasemkina.validated.rule;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Значения уже сгенерированных полей объекта — контекст для правил.
+ *
+ * <p>Значения хранятся в массиве по номерам полей (слотам) в порядке генерации,
+ * сопоставление «имя → слот» вычисляется один раз при компиляции правил
+ * ({@link CompiledRules}) и разделяется всеми экземплярами. Экземпляр создаётся
+ * один раз на контекст генерации (поток или шард) и сбрасывается через
+ * {@link #clear()} перед каждой попыткой, поэтому генерация объекта не выделяет
+ * новых хэш-таблиц.
+ *
+ * <p>Для совместимости с {@link Rule#matches} и {@link Rule#generate} класс
+ * реализует {@link Map}: ключи — имена полей класса. Записать можно только
+ * значение поля, известного плану. Экземпляр не потокобезопасен.
+ */
+public final class FieldValues extends AbstractMap<String, Object> {
+
+    private final CompiledRules layout;
+    private final Object[] values;
+    private final boolean[] present;
+    private int size;
+
+    FieldValues(CompiledRules layout) {
+        this.layout = layout;
+        this.values = new Object[layout.fieldCount()];
+        this.present = new boolean[layout.fieldCount()];
+    }
+
+    /**
+     * Построен ли контекст для этих скомпилированных правил.
+     */
+    public boolean isFor(CompiledRules rules) {
+        return layout == rules;
+    }
+
+    /**
+     * Слот поля по имени или -1, если такого поля у класса нет.
+     */
+    public int slot(String fieldName) {
+        return layout.slot(fieldName);
+    }
+
+    /**
+     * Значение слота (null, если слот ещё не заполнен).
+     */
+    public Object get(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Заполнен ли слот.
+     */
+    public boolean isSet(int slot) {
+        return present[slot];
+    }
+
+    /**
+     * Записывает значение поля по его слоту.
+     */
+    public void set(int slot, Object value) {
+        if (!present[slot]) {
+            present[slot] = true;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int slot = slotOf(key);
+        return slot >= 0 ? values[slot] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = slotOf(key);
+        return slot >= 0 && present[slot];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int slot = layout.slot(key);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Поле '" + key + "' отсутствует в плане генерации");
+        }
+        Object previous = values[slot];
+        set(slot, value);
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Сбрасывает все слоты перед новой попыткой генерации.
+     */
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(values, null);
+            Arrays.fill(present, false);
+            size = 0;
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int next = advance(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>(layout.fieldName(next), values[next]);
+                        next = advance(next + 1);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int advance(int from) {
+        int slot = from;
+        while (slot < present.length && !present[slot]) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private int slotOf(Object key) {
+        return key instanceof String name ? layout.slot(name) : -1;
+    }
+}
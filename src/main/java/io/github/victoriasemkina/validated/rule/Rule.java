@@ -1,8 +1,10 @@
 package io.github.victoriasemkina.validated.rule;
 
+import io.github.victoriasemkina.validated.core.GenerationContext;
 import io.github.victoriasemkina.validated.model.FieldDescriptor;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Интерфейс для правил генерации, которые могут использовать значения
@@ -19,12 +21,45 @@ public interface Rule {
      */
     boolean matches(FieldDescriptor targetField, Map<String, Object> context);
 
+    /**
+     * Может ли правило в принципе применяться к полю — проверка, не зависящая
+     * от контекста (имя, тип, аннотации). Вызывается один раз при компиляции
+     * правил для класса ({@link RuleEngine#compile}); поля, для которых метод
+     * вернул false, правило не рассматривает вовсе. По умолчанию true.
+     */
+    default boolean appliesTo(FieldDescriptor targetField) {
+        return true;
+    }
+
+    /**
+     * Имена полей контекста, которые читает правило. Если множество не пусто,
+     * правило объявляет, что {@link #matches} эквивалентен
+     * «{@link #appliesTo} и в контексте есть хотя бы одно из этих полей»:
+     * скомпилированный движок проверяет это один раз по порядку полей класса
+     * и при генерации не вызывает {@link #matches}. Пустое множество (по умолчанию)
+     * означает, что зависимости неизвестны и {@link #matches} вызывается всегда.
+     */
+    default Set<String> inputs() {
+        return Set.of();
+    }
+
     /**
      * Сгенерировать значение с учётом контекста.
      * Вызывается только если matches() вернул true.
      */
     Object generate(FieldDescriptor targetField, Map<String, Object> context);
 
+    /**
+     * Сгенерировать значение с учётом контекста и источника случайности.
+     * Правила, которым нужна случайность, переопределяют этот метод и берут её
+     * только из {@code generation}, чтобы генерация с сидом была воспроизводимой.
+     * По умолчанию делегирует в {@link #generate(FieldDescriptor, Map)}.
+     */
+    default Object generate(FieldDescriptor targetField, Map<String, Object> context,
+                            GenerationContext generation) {
+        return generate(targetField, context);
+    }
+
     /**
      * Приоритет правила (чем выше, тем раньше применяется).
      * По умолчанию 0.
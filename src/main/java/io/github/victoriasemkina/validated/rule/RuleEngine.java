@@ -1,5 +1,6 @@
 package io.github.victoriasemkina.validated.rule;
 
+import io.github.victoriasemkina.validated.core.GenerationContext;
 import io.github.victoriasemkina.validated.model.FieldDescriptor;
 
 import java.util.*;
@@ -9,16 +10,24 @@ import java.util.*;
  * в порядке их приоритета.
  */
 public class RuleEngine {
+    private static final Rule EMAIL_FROM_NAME = new EmailFromNameRule();
+    // Сортируем по убыванию приоритета (высокий приоритет → первый)
+    private static final Comparator<Rule> BY_PRIORITY = (r1, r2) -> Integer.compare(r2.getPriority(), r1.getPriority());
+
     private final List<Rule> rules = new ArrayList<>();
 
     public RuleEngine() {
-        // Регистрируем правила по умолчанию
-        registerDefaultRules();
+        // Регистрируем правила по умолчанию и глобальные (в т. ч. найденные через ServiceLoader)
+        rules.addAll(defaultRules());
     }
 
-    private void registerDefaultRules() {
-        registerRule(new EmailFromNameRule());
+    private static List<Rule> defaultRules() {
+        List<Rule> defaults = new ArrayList<>();
+        defaults.add(EMAIL_FROM_NAME);
         // Здесь позже добавятся другие правила по умолчанию
+        defaults.addAll(RuleRegistry.global());
+        defaults.sort(BY_PRIORITY);
+        return defaults;
     }
 
     /**
@@ -38,8 +47,7 @@ public class RuleEngine {
     }
 
     private void sortRulesByPriority() {
-        // Сортируем по убыванию приоритета (высокий приоритет → первый)
-        rules.sort((r1, r2) -> Integer.compare(r2.getPriority(), r1.getPriority()));
+        rules.sort(BY_PRIORITY);
     }
 
     /**
@@ -51,9 +59,24 @@ public class RuleEngine {
      *         иначе пустой Optional
      */
     public Optional<Object> applyRules(FieldDescriptor field, Map<String, Object> context) {
+        return applyRules(field, context, GenerationContext.unseeded());
+    }
+
+    /**
+     * Пытается применить зарегистрированные правила к полю,
+     * передавая им общий источник случайности.
+     *
+     * @param field поле, для которого нужно сгенерировать значение
+     * @param context контекст (уже сгенерированные значения других полей)
+     * @param generation контекст генерации текущего объекта
+     * @return Optional со значением, если подходящее правило нашлось,
+     *         иначе пустой Optional
+     */
+    public Optional<Object> applyRules(FieldDescriptor field, Map<String, Object> context,
+                                       GenerationContext generation) {
         for (Rule rule : rules) {
             if (rule.matches(field, context)) {
-                Object result = rule.generate(field, context);
+                Object result = rule.generate(field, context, generation);
                 // Защита от null — если правило вернуло null, пропускаем его
                 if (result != null) {
                     return Optional.of(result);
@@ -63,6 +86,148 @@ public class RuleEngine {
         return Optional.empty();
     }
 
+    /**
+     * Текущие правила в порядке применения (снимок). Правила по умолчанию —
+     * общие экземпляры, поэтому снимки движков с одинаковым набором правил равны
+     * и могут служить ключом кэша.
+     */
+    public List<Rule> rules() {
+        return List.copyOf(rules);
+    }
+
+    /**
+     * Содержит ли движок только правила по умолчанию и глобальные правила
+     * ({@link RuleRegistry#global()}) — общие экземпляры, одинаковые у всех движков.
+     */
+    public boolean hasDefaultRules() {
+        return rules.equals(defaultRules());
+    }
+
+    /**
+     * Порядок генерации полей, при котором каждое поле генерируется после всех
+     * {@link Rule#inputs() входов} правил, способных его заполнить ({@link Rule#appliesTo}).
+     * Граф зависимостей сортируется топологически (алгоритм Кана); среди полей,
+     * готовых к генерации одновременно, первым идёт поле с меньшим именем,
+     * поэтому порядок детерминирован.
+     *
+     * @param fields поля класса
+     * @return номера полей из {@code fields} в порядке генерации
+     * @throws IllegalStateException если зависимости полей образуют цикл
+     */
+    public int[] order(List<FieldDescriptor> fields) {
+        int size = fields.size();
+        Map<String, Integer> slots = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            slots.put(fields.get(i).name(), i);
+        }
+
+        List<Set<Integer>> dependents = new ArrayList<>(size);
+        int[] pendingInputs = new int[size];
+        for (int i = 0; i < size; i++) {
+            dependents.add(new HashSet<>());
+        }
+        for (int target = 0; target < size; target++) {
+            Set<Integer> inputsOfTarget = new HashSet<>();
+            for (Rule rule : rules) {
+                if (!rule.appliesTo(fields.get(target))) {
+                    continue;
+                }
+                for (String input : rule.inputs()) {
+                    Integer slot = slots.get(input);
+                    if (slot != null && slot != target) {
+                        inputsOfTarget.add(slot);
+                    }
+                }
+            }
+            for (int input : inputsOfTarget) {
+                dependents.get(input).add(target);
+            }
+            pendingInputs[target] = inputsOfTarget.size();
+        }
+
+        PriorityQueue<Integer> ready = new PriorityQueue<>(
+                Comparator.comparing((Integer slot) -> fields.get(slot).name()));
+        for (int i = 0; i < size; i++) {
+            if (pendingInputs[i] == 0) {
+                ready.add(i);
+            }
+        }
+        int[] order = new int[size];
+        int position = 0;
+        while (!ready.isEmpty()) {
+            int slot = ready.poll();
+            order[position++] = slot;
+            for (int dependent : dependents.get(slot)) {
+                if (--pendingInputs[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (position < size) {
+            List<String> cyclic = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (pendingInputs[i] > 0) {
+                    cyclic.add(fields.get(i).name());
+                }
+            }
+            throw new IllegalStateException("Циклическая зависимость между полями через правила: " + cyclic);
+        }
+        return order;
+    }
+
+    /**
+     * Раскладывает правила по полям класса один раз: для каждого поля остаются
+     * только правила, чей {@link Rule#appliesTo} вернул true и чьи
+     * {@link Rule#inputs() входы} (если объявлены) генерируются раньше поля.
+     * Поля контекста при генерации заполняются строго в порядке {@code fields},
+     * поэтому для таких правил проверка контекста выполняется здесь, а не на каждый объект.
+     *
+     * @param fields поля класса в порядке генерации
+     */
+    public CompiledRules compile(List<FieldDescriptor> fields) {
+        Map<String, Integer> slots = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            slots.put(fields.get(i).name(), i);
+        }
+
+        CompiledRules.CompiledRule[][] candidates = new CompiledRules.CompiledRule[fields.size()][];
+        for (int i = 0; i < fields.size(); i++) {
+            List<CompiledRules.CompiledRule> forField = new ArrayList<>();
+            for (Rule rule : rules) {
+                if (!rule.appliesTo(fields.get(i))) {
+                    continue;
+                }
+                Set<String> inputs = rule.inputs();
+                if (inputs.isEmpty()) {
+                    forField.add(new CompiledRules.CompiledRule(rule, true, new int[0]));
+                    continue;
+                }
+                int[] inputSlots = earlierSlots(inputs, slots, i);
+                if (inputSlots.length > 0) {
+                    forField.add(new CompiledRules.CompiledRule(rule, false, inputSlots));
+                }
+            }
+            candidates[i] = forField.isEmpty()
+                    ? CompiledRules.noRules()
+                    : forField.toArray(new CompiledRules.CompiledRule[0]);
+        }
+        String[] fieldNames = new String[fields.size()];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = fields.get(i).name();
+        }
+        return new CompiledRules(fieldNames, candidates);
+    }
+
+    private static int[] earlierSlots(Set<String> inputs, Map<String, Integer> slots, int fieldIndex) {
+        return inputs.stream()
+                .map(slots::get)
+                .filter(slot -> slot != null && slot < fieldIndex)
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .toArray();
+    }
+
     /**
      * Возвращает количество зарегистрированных правил.
      */
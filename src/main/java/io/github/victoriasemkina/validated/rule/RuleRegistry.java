@@ -1,4 +1,67 @@
 package io.github.victoriasemkina.validated.rule;
 
-public class RuleRegistry {
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Глобальный реестр пользовательских правил.
+ *
+ * <p>Содержит правила, найденные через {@link ServiceLoader} (файл
+ * {@code META-INF/services/io.github.victoriasemkina.validated.rule.Rule}),
+ * и зарегистрированные через {@link #registerGlobal(Rule)}. Поиск через
+ * {@link ServiceLoader} выполняется один раз на JVM. Каждый новый
+ * {@link RuleEngine} получает правила реестра вместе с правилами по умолчанию
+ * и упорядочивает их по {@link Rule#getPriority() приоритету}.
+ */
+public final class RuleRegistry {
+
+    private static volatile List<Rule> global;
+
+    private RuleRegistry() {
+    }
+
+    /**
+     * Глобальные правила в порядке регистрации (сначала найденные через {@link ServiceLoader}).
+     */
+    public static List<Rule> global() {
+        List<Rule> rules = global;
+        if (rules == null) {
+            synchronized (RuleRegistry.class) {
+                rules = global;
+                if (rules == null) {
+                    rules = discover();
+                    global = rules;
+                }
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * Добавляет правило в глобальный реестр. Действует на движки правил,
+     * созданные после регистрации.
+     */
+    public static void registerGlobal(Rule rule) {
+        Objects.requireNonNull(rule, "Правило не может быть null");
+        synchronized (RuleRegistry.class) {
+            List<Rule> rules = new ArrayList<>(global());
+            rules.add(rule);
+            global = List.copyOf(rules);
+        }
+    }
+
+    private static List<Rule> discover() {
+        List<Rule> discovered = new ArrayList<>();
+        try {
+            for (Rule rule : ServiceLoader.load(Rule.class)) {
+                discovered.add(rule);
+            }
+        } catch (ServiceConfigurationError e) {
+            throw new IllegalStateException("Не удалось загрузить правила через ServiceLoader", e);
+        }
+        return List.copyOf(discovered);
+    }
 }
@@ -0,0 +1,16 @@
+package io.github.victoriasemkina.validated.rule;
+
+/**
+ * Правило, которое заранее разрешает свои входы в слоты {@link FieldValues}
+ * конкретной разметки, чтобы при генерации не искать поля по именам.
+ */
+interface SlotBoundRule extends Rule {
+
+    /**
+     * Вариант правила для разметки {@code layout}; вызывается один раз при компиляции
+     * правил ({@link CompiledRules}). Полученное правило читает слоты, только если
+     * контекст построен для этой разметки ({@link FieldValues#isFor}), иначе ведёт
+     * себя как исходное.
+     */
+    Rule bind(CompiledRules layout);
+}
@@ -0,0 +1,62 @@
+package io.github.victoriasemkina.validated.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+class FieldAccessorTest {
+
+    static class Sample {
+        private int count;
+        private Integer boxed;
+        private final String label = "initial";
+
+        public Sample() {}
+    }
+
+    @Test
+    void shouldSetPrimitiveAndReferenceFields() throws Exception {
+        Sample sample = new Sample();
+
+        accessor("count").setInt(sample, 7);
+        accessor("boxed").setInt(sample, 8);
+        accessor("label").set(sample, "changed");
+
+        Assertions.assertEquals(7, sample.count);
+        Assertions.assertEquals(8, sample.boxed);
+        Field label = Sample.class.getDeclaredField("label");
+        label.setAccessible(true);
+        Assertions.assertEquals("changed", label.get(sample), "final-поле экземпляра тоже записывается");
+    }
+
+    @Test
+    void shouldUnboxValuesForPrimitiveFields() throws Exception {
+        Sample sample = new Sample();
+
+        accessor("count").set(sample, 42);
+
+        Assertions.assertEquals(42, sample.count);
+    }
+
+    @Test
+    void shouldRejectIncompatibleValues() throws Exception {
+        Sample sample = new Sample();
+
+        Assertions.assertThrows(RuntimeException.class, () -> accessor("count").set(sample, "text"));
+        Assertions.assertThrows(RuntimeException.class, () -> accessor("count").set(sample, null));
+    }
+
+    @Test
+    void shouldInstantiateThroughCachedConstructor() {
+        Sample sample = GenerationPlan.forClass(Sample.class).newInstance();
+
+        Assertions.assertNotNull(sample);
+    }
+
+    private static FieldAccessor accessor(String name) throws NoSuchFieldException {
+        Field field = Sample.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return FieldAccessor.of(field);
+    }
+}
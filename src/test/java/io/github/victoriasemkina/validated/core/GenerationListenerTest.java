@@ -0,0 +1,63 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.testmodel.common.ComplexModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+class GenerationListenerTest {
+
+    @Test
+    void shouldReportFieldSourcesAndCreatedObjects() {
+        List<String> events = new ArrayList<>();
+        GenerationListener listener = new GenerationListener() {
+            @Override
+            public void onFieldGenerated(Class<?> type, FieldDescriptor field, Object value, Source source) {
+                events.add(field.name() + ":" + source);
+            }
+
+            @Override
+            public void onObjectCreated(Class<?> type, Object instance) {
+                events.add("created");
+            }
+        };
+
+        ValidatedBuilder.forClass(ComplexModel.class)
+                .override("count", 30)
+                .withListener(listener)
+                .buildValid();
+
+        Assertions.assertTrue(events.contains("count:OVERRIDE"), events.toString());
+        Assertions.assertTrue(events.contains("email:RULE"), events.toString());
+        Assertions.assertTrue(events.contains("name:GENERATOR"), events.toString());
+        Assertions.assertEquals("created", events.get(events.size() - 1));
+    }
+
+    @Test
+    void shouldNotWriteToStandardOutputByDefault() {
+        PrintStream original = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured));
+        try {
+            ValidatedBuilder.forClass(ComplexModel.class).buildMany(5);
+        } finally {
+            System.setOut(original);
+        }
+
+        Assertions.assertEquals(0, captured.size(), "Без наблюдателя генерация должна быть «тихой»");
+    }
+
+    @Test
+    void shouldShortenLongValuesForDisplay() {
+        String shortened = SystemLoggerListener.formatValueForDisplay("x".repeat(80));
+
+        Assertions.assertEquals(50, shortened.length());
+        Assertions.assertTrue(shortened.endsWith("..."));
+        Assertions.assertEquals("null", SystemLoggerListener.formatValueForDisplay(null));
+    }
+}
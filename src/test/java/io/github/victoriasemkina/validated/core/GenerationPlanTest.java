@@ -0,0 +1,134 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.generator.primitive.StringGenerator;
+import io.github.victoriasemkina.validated.generator.semantic.EmailGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.rule.Rule;
+import io.github.victoriasemkina.validated.rule.RuleEngine;
+import io.github.victoriasemkina.validated.testmodel.semantic.EmployeeModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class GenerationPlanTest {
+
+    static class Address {
+        private String city;
+        private String country;
+
+        public Address() {}
+    }
+
+    /**
+     * city зависит от country; поле city объявлено раньше и раньше по алфавиту.
+     */
+    static class CityFromCountryRule implements Rule {
+        @Override
+        public boolean matches(FieldDescriptor targetField, Map<String, Object> context) {
+            return appliesTo(targetField) && context.containsKey("country");
+        }
+
+        @Override
+        public boolean appliesTo(FieldDescriptor targetField) {
+            return targetField.name().equals("city");
+        }
+
+        @Override
+        public Set<String> inputs() {
+            return Set.of("country");
+        }
+
+        @Override
+        public Object generate(FieldDescriptor targetField, Map<String, Object> context) {
+            return "France".equals(context.get("country")) ? "Paris" : "Berlin";
+        }
+    }
+
+    static class ModelWithConstant {
+        private static final String CONSTANT = "constant";
+        private String value;
+
+        public ModelWithConstant() {}
+    }
+
+    @Test
+    void shouldCachePlanPerClass() {
+        GenerationPlan<EmployeeModel> first = GenerationPlan.forClass(EmployeeModel.class);
+        GenerationPlan<EmployeeModel> second = GenerationPlan.forClass(EmployeeModel.class);
+
+        Assertions.assertSame(first, second, "План должен компилироваться один раз на класс");
+    }
+
+    @Test
+    void shouldOrderNameFieldsBeforeEmail() {
+        List<String> names = GenerationPlan.forClass(EmployeeModel.class).order(new RuleEngine()).fields().stream()
+                .map(GenerationPlan.PlannedField::name)
+                .toList();
+
+        Assertions.assertEquals(List.of("department", "name", "email"), names,
+                "email зависит от name через EmailFromNameRule, остальные поля — по алфавиту");
+    }
+
+    @Test
+    void shouldOrderFieldsByRuleInputs() {
+        RuleEngine ruleEngine = new RuleEngine();
+        ruleEngine.registerRule(new CityFromCountryRule());
+
+        List<String> names = GenerationPlan.forClass(Address.class).order(ruleEngine).fields().stream()
+                .map(GenerationPlan.PlannedField::name)
+                .toList();
+
+        Assertions.assertEquals(List.of("country", "city"), names);
+    }
+
+    @Test
+    void shouldCacheOrderPerRuleSet() {
+        GenerationPlan<EmployeeModel> plan = GenerationPlan.forClass(EmployeeModel.class);
+
+        Assertions.assertSame(plan.order(new RuleEngine()), plan.order(new RuleEngine()),
+                "Порядок для одинакового набора правил должен вычисляться один раз");
+    }
+
+    @Test
+    void shouldNotCacheOrderForBuilderRules() {
+        GenerationPlan<Address> plan = GenerationPlan.forClass(Address.class);
+        RuleEngine ruleEngine = new RuleEngine();
+        ruleEngine.registerRule(new CityFromCountryRule());
+
+        Assertions.assertFalse(ruleEngine.hasDefaultRules());
+        Assertions.assertTrue(new RuleEngine().hasDefaultRules());
+        Assertions.assertNotSame(plan.order(ruleEngine), plan.order(ruleEngine),
+                "Порядок для правил билдера не должен оседать в глобальном плане");
+        Assertions.assertSame(plan.order(new RuleEngine()), plan.order(new RuleEngine()));
+    }
+
+    @Test
+    void shouldBuildDependentFieldThroughBuilderRule() {
+        Address address = ValidatedBuilder.forClass(Address.class)
+                .withRule(new CityFromCountryRule())
+                .override("country", "France")
+                .buildValid();
+
+        Assertions.assertEquals("Paris", address.city);
+    }
+
+    @Test
+    void shouldResolveGeneratorsOnce() {
+        GenerationPlan<EmployeeModel> plan = GenerationPlan.forClass(EmployeeModel.class);
+
+        Assertions.assertInstanceOf(StringGenerator.class, plan.field("name").generator());
+        Assertions.assertInstanceOf(EmailGenerator.class, plan.field("email").generator());
+    }
+
+    @Test
+    void shouldSkipStaticFields() {
+        List<String> names = GenerationPlan.forClass(ModelWithConstant.class).fields().stream()
+                .map(GenerationPlan.PlannedField::name)
+                .toList();
+
+        Assertions.assertEquals(List.of("value"), names);
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.rule.ReferenceCodeTestRule;
+import io.github.victoriasemkina.validated.rule.RuleRegistry;
+import jakarta.validation.constraints.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+class GeneratorDiscoveryTest {
+
+    static class Account {
+        @NotNull
+        private UUID id;
+
+        @NotNull
+        private String name;
+
+        private String referenceCode;
+
+        private String iban;
+
+        public Account() {}
+    }
+
+    @Test
+    void shouldDiscoverGeneratorsAndRulesOnce() {
+        Assertions.assertTrue(GeneratorRegistry.global().generators().stream()
+                .anyMatch(UuidTestGenerator.class::isInstance));
+        Assertions.assertTrue(RuleRegistry.global().stream()
+                .anyMatch(ReferenceCodeTestRule.class::isInstance));
+        Assertions.assertSame(GeneratorRegistry.global(), GeneratorRegistry.global(),
+                "Поиск через ServiceLoader должен выполняться один раз");
+    }
+
+    @Test
+    void shouldUseDiscoveredGeneratorAndRule() {
+        Account account = ValidatedBuilder.forClass(Account.class).withSeed(5L).buildValid();
+
+        Assertions.assertNotNull(account.id, "UUID должен сгенерировать генератор из ServiceLoader");
+        Assertions.assertEquals("REF-" + account.name, account.referenceCode);
+    }
+
+    @Test
+    void shouldApplyBuilderGeneratorOnlyToThatBuilder() {
+        Account custom = ValidatedBuilder.forClass(Account.class)
+                .registerGenerator(new IbanGenerator())
+                .buildValid();
+        Account regular = ValidatedBuilder.forClass(Account.class).buildValid();
+
+        Assertions.assertEquals("DE89370400440532013000", custom.iban);
+        Assertions.assertNotEquals("DE89370400440532013000", regular.iban);
+    }
+
+    private static class IbanGenerator implements ValueGenerator {
+        @Override
+        public Set<Class<?>> supportedTypes() {
+            return Set.of(String.class);
+        }
+
+        @Override
+        public boolean supports(FieldDescriptor descriptor) {
+            return descriptor.name().equals("iban");
+        }
+
+        @Override
+        public Object generate(FieldDescriptor descriptor) {
+            return "DE89370400440532013000";
+        }
+    }
+}
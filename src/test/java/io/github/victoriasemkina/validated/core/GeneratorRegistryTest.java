@@ -0,0 +1,135 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.generator.primitive.BigDecimalGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.BooleanGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.DefaultGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.IntGenerator;
+import io.github.victoriasemkina.validated.generator.primitive.StringGenerator;
+import io.github.victoriasemkina.validated.generator.semantic.EmailGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class GeneratorRegistryTest {
+
+    @Test
+    void shouldResolveDefaultGeneratorsByTypeAndName() {
+        GeneratorRegistry registry = GeneratorRegistry.defaults();
+
+        Assertions.assertInstanceOf(EmailGenerator.class, registry.resolve(field("workEmail", String.class)));
+        Assertions.assertInstanceOf(StringGenerator.class, registry.resolve(field("title", String.class)));
+        Assertions.assertInstanceOf(BigDecimalGenerator.class, registry.resolve(field("amount", BigDecimal.class)));
+        Assertions.assertInstanceOf(IntGenerator.class, registry.resolve(field("count", int.class)));
+        Assertions.assertInstanceOf(BooleanGenerator.class, registry.resolve(field("active", Boolean.class)));
+    }
+
+    @Test
+    void shouldMemoizeResolutionPerDescriptor() {
+        AtomicInteger checks = new AtomicInteger();
+        ValueGenerator counting = new FixedGenerator(Set.of(String.class)) {
+            @Override
+            public boolean supports(FieldDescriptor descriptor) {
+                checks.incrementAndGet();
+                return true;
+            }
+        };
+        GeneratorRegistry registry = new GeneratorRegistry(List.of(counting, new DefaultGenerator()));
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertSame(counting, registry.resolve(field("title", String.class)));
+        }
+
+        Assertions.assertEquals(1, checks.get(), "supports() должен вызываться один раз на описание поля");
+    }
+
+    @Test
+    void shouldSkipGeneratorsOfOtherTypes() {
+        AtomicInteger checks = new AtomicInteger();
+        ValueGenerator decimalOnly = new FixedGenerator(Set.of(BigDecimal.class)) {
+            @Override
+            public boolean supports(FieldDescriptor descriptor) {
+                checks.incrementAndGet();
+                return true;
+            }
+        };
+        GeneratorRegistry registry = new GeneratorRegistry(List.of(decimalOnly, new DefaultGenerator()));
+
+        Assertions.assertInstanceOf(DefaultGenerator.class, registry.resolve(field("title", String.class)));
+        Assertions.assertEquals(0, checks.get(), "Генератор BigDecimal не должен опрашиваться для String");
+    }
+
+    @Test
+    void shouldKeepPriorityBetweenTypedAndUniversalGenerators() {
+        ValueGenerator universal = new FixedGenerator(Set.of(), 1);
+        ValueGenerator typed = new FixedGenerator(Set.of(String.class));
+        GeneratorRegistry registry = new GeneratorRegistry(List.of(universal, typed));
+
+        Assertions.assertSame(universal, registry.resolve(field("title", String.class)),
+                "Универсальный генератор с большим приоритетом должен побеждать");
+    }
+
+    @Test
+    void shouldPreferLaterRegistrationOnEqualPriority() {
+        ValueGenerator custom = new FixedGenerator(Set.of(String.class));
+        GeneratorRegistry registry = GeneratorRegistry.defaults().with(custom);
+
+        Assertions.assertSame(custom, registry.resolve(field("title", String.class)),
+                "Собственный генератор должен заменять встроенный StringGenerator");
+        Assertions.assertInstanceOf(EmailGenerator.class, registry.resolve(field("email", String.class)),
+                "EmailGenerator имеет более высокий приоритет");
+        Assertions.assertInstanceOf(StringGenerator.class,
+                GeneratorRegistry.defaults().resolve(field("title", String.class)),
+                "Исходный реестр не должен меняться");
+    }
+
+    @Test
+    void shouldFailWhenNoGeneratorSupportsField() {
+        GeneratorRegistry registry = new GeneratorRegistry(List.of(new StringGenerator()));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> registry.resolve(field("amount", BigDecimal.class)));
+    }
+
+    private static FieldDescriptor field(String name, Class<?> type) {
+        return new FieldDescriptor(name, type, List.of(), false);
+    }
+
+    private static class FixedGenerator implements ValueGenerator {
+        private final Set<Class<?>> types;
+        private final int priority;
+
+        FixedGenerator(Set<Class<?>> types) {
+            this(types, DEFAULT_PRIORITY);
+        }
+
+        FixedGenerator(Set<Class<?>> types, int priority) {
+            this.types = types;
+            this.priority = priority;
+        }
+
+        @Override
+        public int priority() {
+            return priority;
+        }
+
+        @Override
+        public Set<Class<?>> supportedTypes() {
+            return types;
+        }
+
+        @Override
+        public boolean supports(FieldDescriptor descriptor) {
+            return true;
+        }
+
+        @Override
+        public Object generate(FieldDescriptor descriptor) {
+            return null;
+        }
+    }
+}
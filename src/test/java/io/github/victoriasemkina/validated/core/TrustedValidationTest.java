@@ -0,0 +1,107 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.internal.ValidationUtils;
+import io.github.victoriasemkina.validated.testmodel.common.ComplexModel;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TrustedValidationTest {
+
+    static class PatternModel {
+        @NotNull
+        @Pattern(regexp = "([a-z])\\1+")
+        private String code;
+
+        public PatternModel() {}
+    }
+
+    @Test
+    void shouldTrustConstraintsCoveredByGenerators() {
+        TrustedValidation analysis = TrustedValidation.analyze(
+                GenerationPlan.forClass(ComplexModel.class), ValidationUtils.defaultValidator());
+
+        Assertions.assertTrue(analysis.isFullyTrusted(),
+                "@NotNull, @Size и @Email в ComplexModel гарантируются генераторами");
+    }
+
+    @Test
+    void shouldNotTrustUncoveredConstraints() {
+        TrustedValidation analysis = TrustedValidation.analyze(
+                GenerationPlan.forClass(PatternModel.class), ValidationUtils.defaultValidator());
+
+        Assertions.assertFalse(analysis.isFullyTrusted(), "@Pattern с обратной ссылкой не гарантируется генераторами");
+    }
+
+    @Test
+    void shouldValidateOnlyRuleProducedFieldsWhenEverythingIsTrusted() {
+        AtomicInteger fullValidations = new AtomicInteger();
+        AtomicInteger propertyValidations = new AtomicInteger();
+
+        ComplexModel model = ValidatedBuilder.forClass(ComplexModel.class)
+                .withValidator(countingValidator("validate", fullValidations,
+                        countingValidator("validateProperty", propertyValidations,
+                                ValidationUtils.defaultValidator())))
+                .trustGenerators()
+                .buildValid();
+
+        Assertions.assertNotNull(model.getName());
+        Assertions.assertEquals(0, fullValidations.get(), "Полная валидация не нужна для покрытых ограничений");
+        Assertions.assertEquals(1, propertyValidations.get(),
+                "Проверяется только email, построенный правилом из имени");
+    }
+
+    @Test
+    void shouldValidateOnlySampledObjects() {
+        AtomicInteger calls = new AtomicInteger();
+
+        ValidatedBuilder.forClass(ComplexModel.class)
+                .withValidator(countingValidator("validate", calls, ValidationUtils.defaultValidator()))
+                .validateEvery(3)
+                .buildMany(9);
+
+        Assertions.assertEquals(3, calls.get(), "Должен проверяться каждый третий объект");
+    }
+
+    @Test
+    void shouldSampleAcrossShards() {
+        AtomicInteger sequential = new AtomicInteger();
+        AtomicInteger parallel = new AtomicInteger();
+
+        ValidatedBuilder.forClass(ComplexModel.class)
+                .withValidator(countingValidator("validate", sequential, ValidationUtils.defaultValidator()))
+                .validateEvery(1000)
+                .buildMany(10_000);
+        ValidatedBuilder.forClass(ComplexModel.class)
+                .withValidator(countingValidator("validate", parallel, ValidationUtils.defaultValidator()))
+                .validateEvery(1000)
+                .buildManyParallel(10_000);
+
+        Assertions.assertEquals(10, sequential.get(), "Выборка считается по номеру объекта во всей пачке");
+        Assertions.assertEquals(10, parallel.get(), "Выборка не должна зависеть от числа потоков");
+    }
+
+    @Test
+    void shouldRejectInvalidSampleRate() {
+        ValidatedBuilder<ComplexModel> builder = ValidatedBuilder.forClass(ComplexModel.class);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.validateEvery(0));
+    }
+
+    private static Validator countingValidator(String methodName, AtomicInteger calls, Validator delegate) {
+        return (Validator) Proxy.newProxyInstance(
+                Validator.class.getClassLoader(),
+                new Class<?>[]{Validator.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals(methodName)) {
+                        calls.incrementAndGet();
+                    }
+                    return method.invoke(delegate, args);
+                });
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Пользовательский генератор, подключаемый через ServiceLoader
+ * (src/test/resources/META-INF/services).
+ */
+public class UuidTestGenerator implements ValueGenerator {
+
+    @Override
+    public Set<Class<?>> supportedTypes() {
+        return Set.of(UUID.class);
+    }
+
+    @Override
+    public boolean supports(FieldDescriptor descriptor) {
+        return descriptor.type().equals(UUID.class);
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor) {
+        return generate(descriptor, GenerationContext.unseeded());
+    }
+
+    @Override
+    public Object generate(FieldDescriptor descriptor, GenerationContext context) {
+        return new UUID(context.random().nextLong(), context.random().nextLong());
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.internal.ValidationUtils;
+import io.github.victoriasemkina.validated.testmodel.common.ComplexModel;
+import io.github.victoriasemkina.validated.testmodel.immutable.PersonRecord;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.math.BigDecimal;
+import java.util.List;
+
+class ValidatedBuilderCreatorTest {
+
+    // Аннотации распознаются по простому имени, как одноимённые аннотации Jackson
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.CONSTRUCTOR)
+    @interface JsonCreator {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.PARAMETER)
+    @interface JsonProperty {
+        String value();
+    }
+
+    static final class Money {
+        @NotNull
+        private final BigDecimal amount;
+
+        @NotBlank
+        private final String currency;
+
+        Money(BigDecimal amount, String currency) {
+            this.amount = amount;
+            this.currency = currency;
+        }
+    }
+
+    static final class Product {
+        @NotBlank
+        private final String title;
+
+        @Min(1)
+        @Max(5)
+        private final int rating;
+
+        @NotNull
+        private final Money price;
+
+        private final transient boolean fromCreator;
+
+        public Product() {
+            this("default", 1, null);
+        }
+
+        @JsonCreator
+        Product(@JsonProperty("price") Money price, @JsonProperty("rating") int rating,
+                @JsonProperty("title") String title) {
+            this.title = title;
+            this.rating = rating;
+            this.price = price;
+            this.fromCreator = true;
+        }
+
+        private Product(String title, int rating, Money price) {
+            this.title = title;
+            this.rating = rating;
+            this.price = price;
+            this.fromCreator = false;
+        }
+    }
+
+    // Компактный конструктор отвергает часть значений: такие попытки повторяются
+    record EvenRecord(@Min(0) @Max(20) int value) {
+        EvenRecord {
+            if (value % 2 != 0) {
+                throw new IllegalArgumentException("Нечётное значение: " + value);
+            }
+        }
+    }
+
+    @Test
+    void shouldBuildRecordsThroughCanonicalConstructor() {
+        List<PersonRecord> people = ValidatedBuilder.forClass(PersonRecord.class)
+                .withSeed(4L)
+                .buildMany(50);
+
+        for (PersonRecord person : people) {
+            Assertions.assertTrue(ValidationUtils.defaultValidator().validate(person).isEmpty(), person.toString());
+            Assertions.assertTrue(person.age() >= 18 && person.age() <= 99);
+            Assertions.assertTrue(person.address().postalCode().matches("\\d{6}"));
+        }
+    }
+
+    @Test
+    void shouldUseJsonCreatorAndCanonicalConstructors() {
+        Product product = ValidatedBuilder.forClass(Product.class).buildValid();
+
+        Assertions.assertTrue(product.fromCreator, "Конструктор @JsonCreator важнее конструктора без аргументов");
+        Assertions.assertNotEquals("default", product.title);
+        Assertions.assertTrue(product.rating >= 1 && product.rating <= 5);
+        Assertions.assertNotNull(product.price.amount);
+        Assertions.assertNotNull(product.price.currency);
+    }
+
+    @Test
+    void shouldRetryWhenConstructorRejectsValues() {
+        List<EvenRecord> records = ValidatedBuilder.forClass(EvenRecord.class)
+                .withSeed(8L)
+                .withRetryBudget(50)
+                .buildMany(20);
+
+        records.forEach(record -> Assertions.assertEquals(0, record.value() % 2));
+    }
+
+    @Test
+    void shouldPlanCreatorOnlyWhenNeeded() {
+        Assertions.assertTrue(GenerationPlan.forClass(PersonRecord.class).hasCreator());
+        Assertions.assertTrue(GenerationPlan.forClass(Money.class).hasCreator());
+        Assertions.assertFalse(GenerationPlan.forClass(ComplexModel.class).hasCreator());
+    }
+}
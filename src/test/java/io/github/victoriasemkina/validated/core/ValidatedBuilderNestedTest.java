@@ -0,0 +1,155 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.internal.ValidationUtils;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.testmodel.nested.OrderModel;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.constraints.NotBlank;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ValidatedBuilderNestedTest {
+
+    static class CategoryModel {
+        @NotBlank
+        private String name;
+
+        private CategoryModel parent;
+
+        private Tag tag;
+
+        public CategoryModel() {}
+    }
+
+    static class Tag {
+        private String label;
+
+        private CategoryModel owner;
+
+        public Tag() {}
+    }
+
+    // Параметр @JsonCreator не соответствует ни одному полю
+    static class Opaque {
+        private String value;
+
+        @ValidatedBuilderCreatorTest.JsonCreator
+        Opaque(@ValidatedBuilderCreatorTest.JsonProperty("raw") String raw) {
+            this.value = raw;
+        }
+    }
+
+    static class HolderModel {
+        @NotBlank
+        private String title;
+
+        private Opaque opaque;
+
+        public HolderModel() {}
+    }
+
+    @Test
+    void shouldBuildDeepAggregates() {
+        AtomicInteger violations = new AtomicInteger();
+        GenerationListener listener = new GenerationListener() {
+            @Override
+            public void onViolations(Class<?> type, Set<? extends ConstraintViolation<?>> found) {
+                violations.addAndGet(found.size());
+            }
+        };
+
+        List<OrderModel> orders = ValidatedBuilder.forClass(OrderModel.class)
+                .withSeed(5L)
+                .withListener(listener)
+                .buildMany(100);
+
+        Assertions.assertEquals(0, violations.get(), "Вложенные объекты должны быть валидны с первой попытки");
+        for (OrderModel order : orders) {
+            Assertions.assertTrue(ValidationUtils.defaultValidator().validate(order).isEmpty());
+            Assertions.assertNotSame(order.getShippingAddress(), order.getCustomer().getAddress());
+            Assertions.assertTrue(order.getCustomer().getAddress().getCity().getRegion().getCode().matches("[A-Z]{2}"));
+        }
+    }
+
+    @Test
+    void shouldStopAtCycles() {
+        CategoryModel category = ValidatedBuilder.forClass(CategoryModel.class).buildValid();
+
+        Assertions.assertNotNull(category.name);
+        Assertions.assertNull(category.parent, "Класс, который уже строится выше по графу, не вкладывается");
+        Assertions.assertNotNull(category.tag);
+        Assertions.assertNotNull(category.tag.label);
+        Assertions.assertNull(category.tag.owner);
+    }
+
+    @Test
+    void shouldLeaveUnmappableTypesToDefaultGenerator() {
+        Assertions.assertFalse(BeanGenerator.isBean(Opaque.class));
+        Assertions.assertFalse(BeanGenerator.isBean(AtomicLong.class));
+
+        HolderModel holder = ValidatedBuilder.forClass(HolderModel.class).buildValid();
+
+        Assertions.assertNotNull(holder.title);
+        Assertions.assertNull(holder.opaque);
+    }
+
+    @Test
+    void shouldRespectMaxDepth() {
+        CategoryModel flat = ValidatedBuilder.forClass(CategoryModel.class)
+                .withMaxDepth(0)
+                .buildValid();
+
+        Assertions.assertNull(flat.tag);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> ValidatedBuilder.forClass(OrderModel.class).withMaxDepth(3).withRetryBudget(2).buildValid(),
+                "@NotNull регион на четвёртом уровне нельзя построить при пределе 3");
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ValidatedBuilder.forClass(OrderModel.class).withMaxDepth(-1));
+    }
+
+    @Test
+    void shouldUseBuilderGeneratorsInNestedObjects() {
+        ValueGenerator regions = new ValueGenerator() {
+            @Override
+            public boolean supports(FieldDescriptor descriptor) {
+                return descriptor.name().equals("code");
+            }
+
+            @Override
+            public Set<Class<?>> supportedTypes() {
+                return Set.of(String.class);
+            }
+
+            @Override
+            public int priority() {
+                return 100;
+            }
+
+            @Override
+            public Object generate(FieldDescriptor descriptor) {
+                return "RU";
+            }
+        };
+
+        OrderModel order = ValidatedBuilder.forClass(OrderModel.class)
+                .registerGenerator(regions)
+                .buildValid();
+
+        Assertions.assertEquals("RU", order.getShippingAddress().getCity().getRegion().getCode());
+    }
+
+    @Test
+    void shouldShareNestedPlansPerRegistry() {
+        GeneratorRegistry registry = GeneratorRegistry.global().with(new UuidTestGenerator());
+
+        Assertions.assertSame(GenerationPlan.forClass(OrderModel.Address.class, registry),
+                GenerationPlan.forClass(OrderModel.Address.class, registry));
+        Assertions.assertSame(GenerationPlan.forClass(OrderModel.Address.class),
+                GenerationPlan.forClass(OrderModel.Address.class, GeneratorRegistry.global()));
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.testmodel.primitive.FinancialModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+class ValidatedBuilderParallelTest {
+
+    private static final long SEED = 42L;
+    private static final int COUNT = 300;
+
+    @Test
+    void shouldProduceSameDatasetRegardlessOfParallelism() {
+        List<BigDecimal> sequential = amounts(ValidatedBuilder.forClass(FinancialModel.class)
+                .withSeed(SEED)
+                .buildMany(COUNT));
+        List<BigDecimal> singleThread = amounts(ValidatedBuilder.forClass(FinancialModel.class)
+                .withSeed(SEED)
+                .buildManyParallel(COUNT, 1));
+        List<BigDecimal> fourThreads = amounts(ValidatedBuilder.forClass(FinancialModel.class)
+                .withSeed(SEED)
+                .buildManyParallel(COUNT, 4));
+
+        Assertions.assertEquals(COUNT, sequential.size());
+        Assertions.assertEquals(sequential, singleThread);
+        Assertions.assertEquals(sequential, fourThreads);
+    }
+
+    @Test
+    void shouldKeepOrderInParallelStream() {
+        List<BigDecimal> sequential = amounts(ValidatedBuilder.forClass(FinancialModel.class)
+                .withSeed(SEED)
+                .buildMany(COUNT));
+        List<BigDecimal> streamed = amounts(ValidatedBuilder.forClass(FinancialModel.class)
+                .withSeed(SEED)
+                .parallelStream(COUNT)
+                .toList());
+
+        Assertions.assertEquals(sequential, streamed);
+    }
+
+    @Test
+    void shouldRejectInvalidParallelism() {
+        ValidatedBuilder<FinancialModel> builder = ValidatedBuilder.forClass(FinancialModel.class);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.buildManyParallel(10, 0));
+    }
+
+    private static List<BigDecimal> amounts(List<FinancialModel> models) {
+        return models.stream().map(FinancialModel::getAmount).toList();
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Null;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ValidatedBuilderRepairTest {
+
+    static class BoundedModel {
+        @Max(50)
+        private int small;
+
+        private String label;
+
+        public BoundedModel() {}
+
+        public int getSmall() { return small; }
+        public String getLabel() { return label; }
+    }
+
+    // Генераторы никогда не выдают null, поэтому поле невозможно исправить
+    static class UnsatisfiableModel {
+        @Null
+        private String code;
+
+        public UnsatisfiableModel() {}
+    }
+
+    // Поле с общим префиксом имени не должно попадать в сообщение о поле code
+    static class PrefixedModel {
+        @Null(message = "code must be null")
+        private String code;
+
+        @Null(message = "suffix must be null")
+        private String codeSuffix;
+
+        public PrefixedModel() {}
+    }
+
+    // email выводится EmailFromNameRule из firstName
+    static class ContactModel {
+        @Size(max = 5)
+        private String firstName;
+
+        private String email;
+
+        public ContactModel() {}
+    }
+
+    // Генератор дат отвергает противоречивые ограничения в каждой попытке
+    static class ConflictingDateModel {
+        @Past
+        @Future
+        private LocalDate date;
+
+        public ConflictingDateModel() {}
+    }
+
+    @Test
+    void shouldRepairOnlyViolatingField() {
+        List<BoundedModel> models = ValidatedBuilder.forClass(BoundedModel.class)
+                .withSeed(3L)
+                .withRetryBudget("small", 30)
+                .buildMany(20);
+
+        models.forEach(model -> {
+            Assertions.assertTrue(model.getSmall() <= 50, "Поле small должно быть исправлено: " + model.getSmall());
+            Assertions.assertNotNull(model.getLabel());
+        });
+    }
+
+    @Test
+    void shouldFailWhenFieldBudgetIsExhausted() {
+        ValidatedBuilder<UnsatisfiableModel> builder = ValidatedBuilder.forClass(UnsatisfiableModel.class)
+                .withRetryBudget("code", 3);
+
+        IllegalStateException error = Assertions.assertThrows(IllegalStateException.class, builder::buildValid);
+        Assertions.assertTrue(error.getMessage().contains("'code'"),
+                "Сообщение должно называть поле-нарушитель: " + error.getMessage());
+        Assertions.assertTrue(error.getMessage().contains("3 попыток"), error.getMessage());
+    }
+
+    @Test
+    void shouldKeepAttemptFailureAsCause() {
+        ValidatedBuilder<ConflictingDateModel> builder = ValidatedBuilder.forClass(ConflictingDateModel.class);
+
+        IllegalStateException error = Assertions.assertThrows(IllegalStateException.class, builder::buildValid);
+        Assertions.assertNotNull(error.getCause(), "Причина должна сохраниться без слушателя");
+        Assertions.assertTrue(error.getCause().getMessage().contains("'date'"), error.getCause().getMessage());
+    }
+
+    @Test
+    void shouldDescribeOnlyViolationsOfExhaustedField() {
+        ValidatedBuilder<PrefixedModel> builder = ValidatedBuilder.forClass(PrefixedModel.class)
+                .withRetryBudget("code", 2);
+
+        IllegalStateException error = Assertions.assertThrows(IllegalStateException.class, builder::buildValid);
+        Assertions.assertTrue(error.getMessage().contains("code must be null"), error.getMessage());
+        Assertions.assertFalse(error.getMessage().contains("suffix must be null"), error.getMessage());
+    }
+
+    @Test
+    void shouldRederiveRuleFieldsAfterRepair() {
+        AtomicInteger calls = new AtomicInteger();
+        ValueGenerator names = new ValueGenerator() {
+            @Override
+            public boolean supports(FieldDescriptor descriptor) {
+                return descriptor.name().equals("firstName");
+            }
+
+            @Override
+            public Set<Class<?>> supportedTypes() {
+                return Set.of(String.class);
+            }
+
+            @Override
+            public int priority() {
+                return 100;
+            }
+
+            @Override
+            public Object generate(FieldDescriptor descriptor) {
+                // Первое имя нарушает @Size и исправляется
+                return calls.getAndIncrement() == 0 ? "Alexander" : "Anna";
+            }
+        };
+
+        ContactModel contact = ValidatedBuilder.forClass(ContactModel.class)
+                .registerGenerator(names)
+                .buildValid();
+
+        Assertions.assertEquals("Anna", contact.firstName);
+        Assertions.assertEquals("anna@company.com", contact.email, "email должен следовать за исправленным именем");
+    }
+
+    @Test
+    void shouldFailFastOnInvalidOverride() {
+        ValidatedBuilder<BoundedModel> builder = ValidatedBuilder.forClass(BoundedModel.class)
+                .override("small", 99);
+
+        IllegalStateException error = Assertions.assertThrows(IllegalStateException.class, builder::buildValid);
+        Assertions.assertTrue(error.getMessage().contains("'small'"), error.getMessage());
+    }
+
+    @Test
+    void shouldRejectInvalidBudget() {
+        ValidatedBuilder<BoundedModel> builder = ValidatedBuilder.forClass(BoundedModel.class);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.withRetryBudget(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.withRetryBudget("small", 0));
+    }
+}
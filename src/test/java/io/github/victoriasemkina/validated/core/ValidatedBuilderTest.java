@@ -2,9 +2,17 @@ package io.github.victoriasemkina.validated.core;
 
 import io.github.victoriasemkina.validated.testmodel.common.ComplexModel;
 import io.github.victoriasemkina.validated.testmodel.common.NotNullModel;
+import io.github.victoriasemkina.validated.testmodel.temporal.TemporalModel;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
+
 class ValidatedBuilderTest {
 
     // Простой тестовый класс
@@ -102,4 +110,73 @@ class ValidatedBuilderTest {
         Assertions.assertTrue(email.contains("@"),
                 "Email должен содержать '@', а получили: " + email);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldBuildManyObjects() {
+        List<NotNullModel> models = ValidatedBuilder.forClass(NotNullModel.class)
+                .buildMany(5);
+
+        Assertions.assertEquals(5, models.size());
+        models.forEach(model -> Assertions.assertNotNull(model.getMandatoryField()));
+    }
+
+    @Test
+    void shouldRejectNegativeCount() {
+        ValidatedBuilder<NotNullModel> builder = ValidatedBuilder.forClass(NotNullModel.class);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.buildMany(-1));
+    }
+
+    @Test
+    void shouldStreamAndIterateValidObjects() {
+        ValidatedBuilder<ComplexModel> builder = ValidatedBuilder.forClass(ComplexModel.class);
+
+        List<ComplexModel> streamed = builder.stream().limit(3).toList();
+        Assertions.assertEquals(3, streamed.size());
+        streamed.forEach(model -> Assertions.assertNotNull(model.getName()));
+
+        Iterator<ComplexModel> iterator = builder.iterator();
+        Assertions.assertTrue(iterator.hasNext());
+        Assertions.assertNotNull(iterator.next().getEmail());
+    }
+
+    @Test
+    void shouldReproduceObjectsWithSameSeed() {
+        List<ComplexModel> first = ValidatedBuilder.forClass(ComplexModel.class)
+                .withSeed(7L)
+                .buildMany(3);
+        List<ComplexModel> second = ValidatedBuilder.forClass(ComplexModel.class)
+                .withSeed(7L)
+                .buildMany(3);
+
+        for (int i = 0; i < first.size(); i++) {
+            Assertions.assertEquals(first.get(i).getName(), second.get(i).getName());
+            Assertions.assertEquals(first.get(i).getDescription(), second.get(i).getDescription());
+            Assertions.assertEquals(first.get(i).getEmail(), second.get(i).getEmail());
+            Assertions.assertEquals(first.get(i).getCount(), second.get(i).getCount());
+        }
+    }
+
+    @Test
+    void shouldReproduceDatesWithFixedClock() {
+        Clock clock = Clock.fixed(Instant.parse("2001-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+        List<TemporalModel> first = ValidatedBuilder.forClass(TemporalModel.class)
+                .withClock(clock)
+                .withSeed(42L)
+                .buildMany(20);
+        List<TemporalModel> second = ValidatedBuilder.forClass(TemporalModel.class)
+                .withClock(clock)
+                .withSeed(42L)
+                .buildMany(20);
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (int i = 0; i < first.size(); i++) {
+            Assertions.assertEquals(first.get(i).getBirthDate(), second.get(i).getBirthDate());
+            Assertions.assertEquals(first.get(i).getAppointmentTime(), second.get(i).getAppointmentTime());
+            // @Future отсчитывается от часов билдера, а не от системного времени
+            Assertions.assertTrue(first.get(i).getAppointmentTime().isAfter(now));
+            Assertions.assertTrue(first.get(i).getAppointmentTime().isBefore(now.plusYears(11)));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.victoriasemkina.validated.core;
+
+import io.github.victoriasemkina.validated.internal.ValidationUtils;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.testmodel.common.ComplexModel;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ValidatedBuilderUniqueTest {
+
+    static class AccountModel {
+        @Unique
+        @Min(1)
+        @Max(100_000)
+        private int number;
+
+        public AccountModel() {}
+    }
+
+    static class NarrowModel {
+        @Unique
+        @Min(1)
+        @Max(3)
+        private int slot;
+
+        public NarrowModel() {}
+    }
+
+    static class SkuModel {
+        @Unique
+        @Size(max = 5)
+        @Pattern(regexp = "SKU[0-9]{2}")
+        private String sku;
+
+        public SkuModel() {}
+    }
+
+    @Test
+    void shouldGenerateDistinctValidEmails() {
+        List<ComplexModel> models = ValidatedBuilder.forClass(ComplexModel.class)
+                .withSeed(11L)
+                .unique("email")
+                .buildMany(5_000);
+
+        Set<String> emails = new HashSet<>();
+        for (ComplexModel model : models) {
+            Assertions.assertTrue(emails.add(model.getEmail()), "Повтор email: " + model.getEmail());
+            Assertions.assertTrue(ValidationUtils.defaultValidator().validate(model).isEmpty());
+        }
+    }
+
+    @Test
+    void shouldRegenerateDuplicateNumbers() {
+        List<AccountModel> accounts = ValidatedBuilder.forClass(AccountModel.class)
+                .withSeed(3L)
+                .buildMany(2_000);
+
+        Set<Integer> numbers = new HashSet<>();
+        for (AccountModel account : accounts) {
+            Assertions.assertTrue(numbers.add(account.number), "Повтор номера: " + account.number);
+        }
+    }
+
+    @Test
+    void shouldKeepUniquenessAcrossParallelShards() {
+        List<ComplexModel> models = ValidatedBuilder.forClass(ComplexModel.class)
+                .withSeed(7L)
+                .unique("email")
+                .buildManyParallel(5_000);
+
+        Set<String> emails = new HashSet<>();
+        for (ComplexModel model : models) {
+            Assertions.assertTrue(emails.add(model.getEmail()), "Повтор email: " + model.getEmail());
+        }
+    }
+
+    @Test
+    void shouldKeepUniquenessWithinIterator() {
+        Iterator<AccountModel> iterator = ValidatedBuilder.forClass(AccountModel.class)
+                .withSeed(5L)
+                .iterator();
+
+        Set<Integer> numbers = new HashSet<>();
+        for (int i = 0; i < 2_000; i++) {
+            Assertions.assertTrue(numbers.add(iterator.next().number));
+        }
+    }
+
+    @Test
+    void shouldValidateReplacedValuesOutsideSample() {
+        AtomicInteger repairs = new AtomicInteger();
+        GenerationListener listener = new GenerationListener() {
+            @Override
+            public void onFieldGenerated(Class<?> type, FieldDescriptor field, Object value, Source source) {
+                if (source == Source.REPAIR) {
+                    repairs.incrementAndGet();
+                }
+            }
+        };
+
+        List<SkuModel> models = ValidatedBuilder.forClass(SkuModel.class)
+                .withSeed(2L)
+                .withListener(listener)
+                .validateEvery(1000)
+                .buildMany(40);
+
+        Set<String> skus = new HashSet<>();
+        for (SkuModel model : models) {
+            Assertions.assertTrue(model.sku.matches("SKU[0-9]{2}"), "Суффикс нарушил @Pattern: " + model.sku);
+            Assertions.assertTrue(skus.add(model.sku));
+        }
+        Assertions.assertTrue(repairs.get() > 0, "Повторы с суффиксом должны чиниться перегенерацией");
+    }
+
+    @Test
+    void shouldFailWhenValuesAreExhausted() {
+        ValidatedBuilder<NarrowModel> builder = ValidatedBuilder.forClass(NarrowModel.class).withSeed(1L);
+
+        Assertions.assertEquals(3, builder.buildMany(3).stream().map(m -> m.slot).distinct().count());
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.buildMany(4));
+    }
+
+    @Test
+    void shouldRejectUnknownUniqueField() {
+        ValidatedBuilder<ComplexModel> builder = ValidatedBuilder.forClass(ComplexModel.class).unique("login");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.buildMany(1));
+    }
+}
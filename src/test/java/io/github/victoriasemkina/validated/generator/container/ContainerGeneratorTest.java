@@ -0,0 +1,92 @@
+package io.github.victoriasemkina.validated.generator.container;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.core.GenerationListener;
+import io.github.victoriasemkina.validated.core.GeneratorRegistry;
+import io.github.victoriasemkina.validated.core.ValidatedBuilder;
+import io.github.victoriasemkina.validated.generator.semantic.EmailGenerator;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.testmodel.container.ContainerModel;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ContainerGeneratorTest {
+
+    static class ConflictModel {
+        @Size(min = 5, max = 2)
+        private List<String> items;
+    }
+
+    @Test
+    void shouldResolveContainerGenerators() throws NoSuchFieldException {
+        GeneratorRegistry registry = GeneratorRegistry.defaults();
+
+        Assertions.assertInstanceOf(CollectionGenerator.class, registry.resolve(field("emails")));
+        Assertions.assertInstanceOf(CollectionGenerator.class, registry.resolve(field("codes")));
+        Assertions.assertInstanceOf(MapGenerator.class, registry.resolve(field("scores")));
+        Assertions.assertInstanceOf(ArrayGenerator.class, registry.resolve(field("readings")));
+    }
+
+    @Test
+    void shouldDescribeElementsFromTypeUseAnnotations() throws NoSuchFieldException {
+        FieldDescriptor element = field("scores").typeArgument(1);
+
+        Assertions.assertEquals(Integer.class, element.type());
+        Assertions.assertTrue(element.isRequired());
+        Assertions.assertEquals(1, element.numericBounds().lowerLong(Long.MIN_VALUE));
+        Assertions.assertEquals(9, element.numericBounds().upperLong(Long.MAX_VALUE));
+        Assertions.assertInstanceOf(EmailGenerator.class,
+                GeneratorRegistry.defaults().resolve(field("contacts").typeArgument(0)));
+        Assertions.assertEquals(String.class, field("matrix").typeArgument(0).typeArgument(0).type());
+        Assertions.assertEquals(long.class, field("readings").componentType().type());
+        Assertions.assertNull(field("readings").typeArgument(0));
+    }
+
+    @Test
+    void shouldBuildContainersWithoutViolations() {
+        AtomicInteger violations = new AtomicInteger();
+        GenerationListener listener = new GenerationListener() {
+            @Override
+            public void onViolations(Class<?> type, Set<? extends ConstraintViolation<?>> found) {
+                violations.addAndGet(found.size());
+            }
+        };
+
+        List<ContainerModel> models = ValidatedBuilder.forClass(ContainerModel.class)
+                .withSeed(9L)
+                .withListener(listener)
+                .buildMany(100);
+
+        Assertions.assertEquals(0, violations.get(), "Ограничения контейнеров и элементов должны выполняться сразу");
+        for (ContainerModel model : models) {
+            Assertions.assertTrue(model.getEmails().size() >= 2 && model.getEmails().size() <= 4);
+            Assertions.assertFalse(model.getContacts().isEmpty());
+            model.getContacts().forEach(contact -> Assertions.assertTrue(contact.contains("@")));
+            Assertions.assertFalse(model.getCodes().isEmpty());
+            Assertions.assertTrue(model.getScores().size() <= 3);
+            model.getMatrix().forEach(row -> row.forEach(cell -> Assertions.assertTrue(cell.matches("[a-z]{3}"))));
+            model.getLines().forEach(line -> Assertions.assertNotNull(line.getSku()));
+            Assertions.assertEquals(1000, model.getReadings().length);
+            Assertions.assertNotNull(model.getCounts());
+            Assertions.assertTrue(model.getTags().length >= 1);
+        }
+    }
+
+    @Test
+    void shouldRejectConflictingSize() throws NoSuchFieldException {
+        FieldDescriptor items = FieldDescriptor.from(ConflictModel.class.getDeclaredField("items"));
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> new CollectionGenerator().generate(items, GenerationContext.seeded(1L)));
+    }
+
+    private static FieldDescriptor field(String name) throws NoSuchFieldException {
+        return FieldDescriptor.from(ContainerModel.class.getDeclaredField(name));
+    }
+}
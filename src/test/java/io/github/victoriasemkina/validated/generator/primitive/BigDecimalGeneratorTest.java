@@ -1,9 +1,13 @@
 package io.github.victoriasemkina.validated.generator.primitive;
 
+import io.github.victoriasemkina.validated.core.GenerationContext;
 import io.github.victoriasemkina.validated.generator.temporal.LocalDateTimeGenerator;
 import io.github.victoriasemkina.validated.model.FieldDescriptor;
 import io.github.victoriasemkina.validated.testmodel.primitive.FinancialModel;
 import io.github.victoriasemkina.validated.testmodel.temporal.TemporalModel;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -83,6 +87,74 @@ public class BigDecimalGeneratorTest {
                 "Два последовательных вызова должны генерировать разные значения");
     }
 
+    @Test
+    void shouldRespectDigitsIntegerLimit() throws NoSuchFieldException {
+        FieldDescriptor descriptor = FieldDescriptor.from(BoundedModel.class.getDeclaredField("percent"));
+        GenerationContext context = GenerationContext.seeded(42L);
+
+        for (int i = 0; i < 1_000; i++) {
+            BigDecimal value = (BigDecimal) generator.generate(descriptor, context);
+            Assertions.assertTrue(value.compareTo(new BigDecimal("99.999")) <= 0,
+                    "Значение " + value + " должно иметь не больше 2 цифр в целой части");
+            Assertions.assertEquals(3, value.scale());
+        }
+    }
+
+    @Test
+    void shouldExcludeExclusiveBounds() throws NoSuchFieldException {
+        FieldDescriptor descriptor = FieldDescriptor.from(BoundedModel.class.getDeclaredField("price"));
+        GenerationContext context = GenerationContext.seeded(42L);
+
+        boolean sawUpperEdge = false;
+        for (int i = 0; i < 1_000; i++) {
+            BigDecimal value = (BigDecimal) generator.generate(descriptor, context);
+            Assertions.assertTrue(value.compareTo(BigDecimal.ZERO) > 0 && value.compareTo(BigDecimal.ONE) < 0,
+                    "Значение " + value + " должно быть в диапазоне (0, 1)");
+            sawUpperEdge |= value.compareTo(new BigDecimal("0.9")) >= 0;
+        }
+        Assertions.assertTrue(sawUpperEdge, "Значения должны покрывать весь диапазон");
+    }
+
+    @Test
+    void shouldGenerateBeyondLongRange() throws NoSuchFieldException {
+        FieldDescriptor descriptor = FieldDescriptor.from(BoundedModel.class.getDeclaredField("huge"));
+
+        BigDecimal value = (BigDecimal) generator.generate(descriptor, GenerationContext.seeded(42L));
+
+        Assertions.assertTrue(value.compareTo(new BigDecimal("1e30")) >= 0
+                && value.compareTo(new BigDecimal("2e30")) <= 0, "Значение " + value + " вне диапазона");
+    }
+
+    @Test
+    void shouldGenerateFullLongRange() throws NoSuchFieldException {
+        FieldDescriptor descriptor = FieldDescriptor.from(BoundedModel.class.getDeclaredField("fullLong"));
+        GenerationContext context = GenerationContext.seeded(42L);
+
+        for (int i = 0; i < 100; i++) {
+            BigDecimal value = (BigDecimal) generator.generate(descriptor, context);
+            Assertions.assertEquals(0, value.scale());
+            Assertions.assertDoesNotThrow(value::longValueExact, "Значение " + value + " вне диапазона long");
+        }
+    }
+
+    static class BoundedModel {
+        @Digits(integer = 2, fraction = 3)
+        private BigDecimal percent;
+
+        @DecimalMin(value = "0", inclusive = false)
+        @DecimalMax(value = "1", inclusive = false)
+        private BigDecimal price;
+
+        @DecimalMin("1e30")
+        @DecimalMax("2e30")
+        private BigDecimal huge;
+
+        @Digits(integer = 19, fraction = 0)
+        @DecimalMin("-9223372036854775808")
+        @DecimalMax("9223372036854775807")
+        private BigDecimal fullLong;
+    }
+
     static class LocalDateTimeGeneratorTest {
 
         private LocalDateTimeGenerator generator;
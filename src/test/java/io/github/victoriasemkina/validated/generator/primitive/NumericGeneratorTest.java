@@ -0,0 +1,83 @@
+package io.github.victoriasemkina.validated.generator.primitive;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.core.ValidatedBuilder;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.testmodel.primitive.NumericModel;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class NumericGeneratorTest {
+
+    private final GenerationContext context = GenerationContext.seeded(42L);
+
+    @Test
+    void shouldGenerateIntWithinMinMax() throws NoSuchFieldException {
+        FieldDescriptor age = field("age");
+        IntGenerator generator = new IntGenerator();
+
+        for (int i = 0; i < 1_000; i++) {
+            int value = generator.generateInt(age, context);
+            Assertions.assertTrue(value >= 18 && value <= 65,
+                    "Значение " + value + " должно быть в диапазоне [18, 65]");
+        }
+    }
+
+    @Test
+    void shouldRespectExclusiveAndSignBounds() throws NoSuchFieldException {
+        FieldDescriptor id = field("id");
+        FieldDescriptor offset = field("offset");
+        FieldDescriptor debt = field("debt");
+        FieldDescriptor ratio = field("ratio");
+
+        for (int i = 0; i < 1_000; i++) {
+            long idValue = new LongGenerator().generateLong(id, context);
+            int offsetValue = new IntGenerator().generateInt(offset, context);
+            long debtValue = new LongGenerator().generateLong(debt, context);
+            double ratioValue = new DoubleGenerator().generateDouble(ratio, context);
+
+            Assertions.assertTrue(idValue > 0, "@Positive: " + idValue);
+            Assertions.assertTrue(offsetValue < 0, "@Negative: " + offsetValue);
+            Assertions.assertTrue(debtValue <= -1000, "@Max(-1000): " + debtValue);
+            Assertions.assertTrue(ratioValue > 0.1 && ratioValue <= 0.2,
+                    "Значение " + ratioValue + " должно быть в диапазоне (0.1, 0.2]");
+        }
+    }
+
+    @Test
+    void shouldBuildValidObjectsOnFirstAttempt() {
+        List<NumericModel> models = ValidatedBuilder.forClass(NumericModel.class)
+                .withSeed(7L)
+                .withRetryBudget(1)
+                .buildMany(500);
+
+        for (NumericModel model : models) {
+            Assertions.assertTrue(model.getAge() >= 18 && model.getAge() <= 65);
+            Assertions.assertNotNull(model.getScore());
+            Assertions.assertTrue(model.getScore() >= 0);
+        }
+    }
+
+    @Test
+    void shouldRejectConflictingBounds() throws NoSuchFieldException {
+        FieldDescriptor broken = FieldDescriptor.from(ConflictingModel.class.getDeclaredField("broken"));
+
+        IllegalStateException error = Assertions.assertThrows(IllegalStateException.class,
+                () -> new IntGenerator().generateInt(broken, context));
+        Assertions.assertTrue(error.getMessage().contains("broken"), error.getMessage());
+    }
+
+    private static FieldDescriptor field(String name) throws NoSuchFieldException {
+        return FieldDescriptor.from(NumericModel.class.getDeclaredField(name));
+    }
+
+    static class ConflictingModel {
+        @Min(10)
+        @Max(5)
+        private int broken;
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.victoriasemkina.validated.generator.primitive;
+
+import io.github.victoriasemkina.validated.core.GenerationListener;
+import io.github.victoriasemkina.validated.core.ValidatedBuilder;
+import io.github.victoriasemkina.validated.core.GeneratorRegistry;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import io.github.victoriasemkina.validated.testmodel.common.ConstrainedModel;
+import jakarta.validation.ConstraintViolation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class PatternGeneratorTest {
+
+    @Test
+    void shouldPreferPatternOverSemanticGenerators() throws NoSuchFieldException {
+        FieldDescriptor contactEmail = FieldDescriptor.from(ConstrainedModel.class.getDeclaredField("contactEmail"));
+
+        Assertions.assertInstanceOf(PatternGenerator.class, GeneratorRegistry.defaults().resolve(contactEmail));
+    }
+
+    @Test
+    void shouldBuildConstrainedObjectsWithoutViolations() {
+        AtomicInteger violations = new AtomicInteger();
+        GenerationListener listener = new GenerationListener() {
+            @Override
+            public void onViolations(Class<?> type, Set<? extends ConstraintViolation<?>> found) {
+                violations.addAndGet(found.size());
+            }
+        };
+
+        List<ConstrainedModel> models = ValidatedBuilder.forClass(ConstrainedModel.class)
+                .withSeed(11L)
+                .withListener(listener)
+                .buildMany(200);
+
+        Assertions.assertEquals(0, violations.get(), "Все ограничения должны выполняться с первой попытки");
+        for (ConstrainedModel model : models) {
+            Assertions.assertTrue(model.getCode().matches("[A-Z]{3}-\\d{4}"), model.getCode());
+            Assertions.assertTrue(model.getContactEmail().matches("[a-z]{5}@test\\.org"), model.getContactEmail());
+            Assertions.assertTrue(model.isAccepted());
+            Assertions.assertTrue(model.getQuantity() > 0);
+            Assertions.assertTrue(model.getLevel() >= 1 && model.getLevel() <= 10);
+        }
+    }
+}
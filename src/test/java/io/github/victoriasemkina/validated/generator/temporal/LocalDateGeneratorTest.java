@@ -1,5 +1,6 @@
 package io.github.victoriasemkina.validated.generator.temporal;
 
+import io.github.victoriasemkina.validated.core.GenerationContext;
 import io.github.victoriasemkina.validated.model.FieldDescriptor;
 import io.github.victoriasemkina.validated.testmodel.temporal.TemporalModel;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,7 +8,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
 
 import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.SplittableRandom;
 
 class LocalDateGeneratorTest {
 
@@ -91,4 +97,18 @@ class LocalDateGeneratorTest {
             generator.generate(descriptor);
         }, "Генератор не должен падать на валидных аннотациях");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldCountFromContextClock() throws NoSuchFieldException {
+        FieldDescriptor descriptor = FieldDescriptor.from(TemporalModel.class.getDeclaredField("birthDate"));
+        Clock clock = Clock.fixed(Instant.parse("2020-06-15T12:00:00Z"), ZoneOffset.UTC);
+        GenerationContext context = new GenerationContext(new SplittableRandom(42L), Locale.ENGLISH, clock);
+        LocalDate today = LocalDate.of(2020, 6, 15);
+
+        for (int i = 0; i < 1_000; i++) {
+            LocalDate value = (LocalDate) generator.generate(descriptor, context);
+            Assertions.assertTrue(value.isBefore(today) && !value.isBefore(today.minusYears(51)),
+                    "Дата " + value + " должна быть в прошлом относительно " + today);
+        }
+    }
+}
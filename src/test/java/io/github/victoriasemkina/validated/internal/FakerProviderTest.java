@@ -0,0 +1,41 @@
+package io.github.victoriasemkina.validated.internal;
+
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+class FakerProviderTest {
+
+    @Test
+    void shouldReuseSharedInstancePerLocale() {
+        Assertions.assertSame(FakerProvider.shared(Locale.ENGLISH), FakerProvider.shared(Locale.ENGLISH));
+        Assertions.assertNotSame(FakerProvider.shared(Locale.ENGLISH), FakerProvider.shared(Locale.GERMAN));
+    }
+
+    @Test
+    void shouldReuseInstanceWithinThread() {
+        Faker first = FakerProvider.forCurrentThread(Locale.ENGLISH, 1L);
+        Faker second = FakerProvider.forCurrentThread(Locale.ENGLISH, 2L);
+
+        Assertions.assertSame(first, second, "В одном потоке Faker должен переиспользоваться");
+    }
+
+    @Test
+    void shouldUseSeparateInstancePerThread() {
+        Faker current = FakerProvider.forCurrentThread(Locale.ENGLISH, 1L);
+        Faker other = CompletableFuture.supplyAsync(() -> FakerProvider.forCurrentThread(Locale.ENGLISH, 1L)).join();
+
+        Assertions.assertNotSame(current, other, "Разные потоки не должны делить один Faker");
+    }
+
+    @Test
+    void shouldReproduceValuesForSameSeed() {
+        String first = FakerProvider.forCurrentThread(Locale.ENGLISH, 42L).name().fullName();
+        String second = FakerProvider.forCurrentThread(Locale.ENGLISH, 42L).name().fullName();
+
+        Assertions.assertEquals(first, second);
+    }
+}
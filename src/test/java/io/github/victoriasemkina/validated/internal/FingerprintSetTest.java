@@ -0,0 +1,48 @@
+package io.github.victoriasemkina.validated.internal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FingerprintSetTest {
+
+    @Test
+    void shouldRejectDuplicates() {
+        FingerprintSet set = new FingerprintSet();
+
+        Assertions.assertTrue(set.add(FingerprintSet.fingerprint("anna@company.com")));
+        Assertions.assertFalse(set.add(FingerprintSet.fingerprint("anna@company.com")));
+        Assertions.assertTrue(set.add(FingerprintSet.fingerprint("anna.1@company.com")));
+        Assertions.assertEquals(2, set.size());
+    }
+
+    @Test
+    void shouldKeepValuesWhileGrowing() {
+        FingerprintSet set = new FingerprintSet(10);
+        int count = 1_000_000;
+
+        for (int i = 0; i < count; i++) {
+            Assertions.assertTrue(set.add(FingerprintSet.fingerprint(i)), "Новое значение: " + i);
+        }
+        for (int i = 0; i < count; i++) {
+            Assertions.assertTrue(set.contains(FingerprintSet.fingerprint(i)));
+            Assertions.assertFalse(set.add(FingerprintSet.fingerprint(i)));
+        }
+        Assertions.assertFalse(set.contains(FingerprintSet.fingerprint(count)));
+        Assertions.assertEquals(count, set.size());
+    }
+
+    @Test
+    void shouldStoreZeroFingerprint() {
+        FingerprintSet set = new FingerprintSet();
+
+        Assertions.assertFalse(set.contains(0L));
+        Assertions.assertTrue(set.add(0L));
+        Assertions.assertTrue(set.contains(0L));
+        Assertions.assertFalse(set.add(0L));
+    }
+
+    @Test
+    void shouldRejectNegativeExpectedSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new FingerprintSet(-1));
+    }
+}
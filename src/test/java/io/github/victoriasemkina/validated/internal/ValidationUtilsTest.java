@@ -0,0 +1,70 @@
+package io.github.victoriasemkina.validated.internal;
+
+import io.github.victoriasemkina.validated.core.ValidatedBuilder;
+import io.github.victoriasemkina.validated.testmodel.common.NotNullModel;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ValidationUtilsTest {
+
+    @AfterEach
+    void tearDown() {
+        ValidationUtils.resetDefaultValidator();
+    }
+
+    @Test
+    void shouldReuseDefaultValidator() {
+        Assertions.assertSame(ValidationUtils.defaultValidator(), ValidationUtils.defaultValidator(),
+                "Валидатор по умолчанию должен создаваться один раз на JVM");
+    }
+
+    @Test
+    void shouldUseInjectedDefaultValidator() {
+        AtomicInteger calls = new AtomicInteger();
+        ValidationUtils.setDefaultValidator(countingValidator(calls));
+
+        ValidatedBuilder.forClass(NotNullModel.class).buildValid();
+
+        Assertions.assertTrue(calls.get() > 0, "Билдер должен использовать установленный валидатор");
+    }
+
+    @Test
+    void shouldPreferBuilderValidator() {
+        AtomicInteger globalCalls = new AtomicInteger();
+        AtomicInteger builderCalls = new AtomicInteger();
+        Validator builderValidator = countingValidator(builderCalls);
+        ValidationUtils.setDefaultValidator(countingValidator(globalCalls));
+
+        ValidatedBuilder.forClass(NotNullModel.class)
+                .withValidator(builderValidator)
+                .buildValid();
+
+        Assertions.assertEquals(0, globalCalls.get());
+        Assertions.assertTrue(builderCalls.get() > 0);
+    }
+
+    @Test
+    void shouldRestoreStandardValidatorAfterReset() {
+        Validator standard = ValidationUtils.defaultValidator();
+        ValidationUtils.setDefaultValidator(countingValidator(new AtomicInteger()));
+        ValidationUtils.resetDefaultValidator();
+
+        Assertions.assertSame(standard, ValidationUtils.defaultValidator());
+    }
+
+    private static Validator countingValidator(AtomicInteger calls) {
+        Validator delegate = ValidationUtils.defaultValidator();
+        return (Validator) Proxy.newProxyInstance(
+                Validator.class.getClassLoader(),
+                new Class<?>[]{Validator.class},
+                (proxy, method, args) -> {
+                    calls.incrementAndGet();
+                    return method.invoke(delegate, args);
+                });
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.victoriasemkina.validated.internal.regex;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+class RegexAutomatonTest {
+
+    private static final String[] PATTERNS = {
+            "[A-Z]{3}-\\d{4}",
+            "^\\+7\\(\\d{3}\\)\\d{3}-\\d{2}-\\d{2}$",
+            "(?:ab|cd)*e?",
+            "[^a-z\\s]{2,5}",
+            "(?<code>[a-f0-9]{8})-(?i)[A-Z]+",
+            ".+@[a-z]+\\.(com|org|ru)",
+            "\\w+\\.\\W\\S[\\d_-]x{0,3}?",
+            "a|b|",
+            "\\x41\\u0042[.$^]"
+    };
+
+    @Test
+    void shouldGenerateMatchingStrings() {
+        SplittableRandom random = new SplittableRandom(42L);
+        for (String regexp : PATTERNS) {
+            RegexAutomaton.Lengths lengths = RegexAutomaton.compile(regexp, RegexAutomaton.Alphabet.PRINTABLE)
+                    .lengths(0, 40);
+            Pattern pattern = Pattern.compile(regexp);
+            for (int i = 0; i < 500; i++) {
+                String value = lengths.generate(random);
+                Assertions.assertTrue(pattern.matcher(value).matches(),
+                        "Строка '" + value + "' не подходит под " + regexp);
+                Assertions.assertTrue(value.length() <= 40, value);
+            }
+        }
+    }
+
+    @Test
+    void shouldRespectLengthBounds() {
+        RegexAutomaton automaton = RegexAutomaton.compile("[a-z]+(-[a-z]+)*", RegexAutomaton.Alphabet.PRINTABLE);
+        RegexAutomaton.Lengths lengths = automaton.lengths(10, 12);
+        SplittableRandom random = new SplittableRandom(7L);
+
+        Assertions.assertEquals(1, automaton.shortestLength());
+        for (int i = 0; i < 500; i++) {
+            String value = lengths.generate(random);
+            Assertions.assertTrue(value.length() >= 10 && value.length() <= 12, value);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> RegexAutomaton.compile("\\d{3}", RegexAutomaton.Alphabet.PRINTABLE).lengths(4, 10));
+    }
+
+    @Test
+    void shouldUseAlphabetForDotAndNegatedClasses() {
+        RegexAutomaton.Lengths lengths = RegexAutomaton.compile(".+@[^.]+\\.com", RegexAutomaton.Alphabet.ALPHANUMERIC)
+                .lengths(5, 30);
+        SplittableRandom random = new SplittableRandom(1L);
+
+        for (int i = 0; i < 500; i++) {
+            Assertions.assertTrue(lengths.generate(random).matches("[a-zA-Z0-9]+@[a-zA-Z0-9]+\\.com"));
+        }
+    }
+
+    @Test
+    void shouldCacheAutomataPerPattern() {
+        Assertions.assertSame(
+                RegexAutomaton.compile("[a-z]{4}", RegexAutomaton.Alphabet.PRINTABLE),
+                RegexAutomaton.compile("[a-z]{4}", RegexAutomaton.Alphabet.PRINTABLE));
+    }
+
+    @Test
+    void shouldRejectNonRegularConstructs() {
+        for (String regexp : new String[]{"(a)\\1", "a(?=b)", "\\bword", "a*+", "[a-z&&[^e]]", "\\p{Alpha}", "a^b"}) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> RegexAutomaton.compile(regexp, RegexAutomaton.Alphabet.PRINTABLE), regexp);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.victoriasemkina.validated.rule;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class FieldValuesTest {
+
+    private final CompiledRules rules = new RuleEngine().compile(List.of(field("firstName"), field("lastName"),
+            field("email")));
+
+    @Test
+    void shouldExposeSlotsAsMap() {
+        FieldValues values = rules.newValues();
+        values.set(values.slot("lastName"), "Doe");
+
+        Assertions.assertTrue(values.containsKey("lastName"));
+        Assertions.assertFalse(values.containsKey("firstName"));
+        Assertions.assertEquals("Doe", values.get("lastName"));
+        Assertions.assertEquals(Map.of("lastName", "Doe"), Map.copyOf(values));
+        Assertions.assertEquals(-1, values.slot("unknown"));
+    }
+
+    @Test
+    void shouldBeUsableByRules() {
+        FieldValues values = rules.newValues();
+        values.put("firstName", "John");
+        values.put("lastName", "Doe");
+
+        Object email = new EmailFromNameRule().generate(field("email"), values);
+
+        Assertions.assertEquals("john.doe@company.com", email);
+    }
+
+    @Test
+    void shouldResetBetweenAttempts() {
+        FieldValues values = rules.newValues();
+        values.set(0, "John");
+        values.clear();
+
+        Assertions.assertTrue(values.isEmpty());
+        Assertions.assertNull(values.get(0));
+        Assertions.assertFalse(values.isSet(0));
+    }
+
+    @Test
+    void shouldRejectUnknownFields() {
+        FieldValues values = rules.newValues();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> values.put("unknown", "value"));
+    }
+
+    private static FieldDescriptor field(String name) {
+        return new FieldDescriptor(name, String.class, List.of(), false);
+    }
+}
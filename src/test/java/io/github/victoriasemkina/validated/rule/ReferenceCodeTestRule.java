@@ -0,0 +1,28 @@
+package io.github.victoriasemkina.validated.rule;
+
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+
+import java.util.Map;
+
+/**
+ * Пользовательское правило, подключаемое через ServiceLoader
+ * (src/test/resources/META-INF/services): referenceCode = "REF-" + name.
+ * Входы не объявлены, поэтому {@link #matches} проверяется при каждой генерации.
+ */
+public class ReferenceCodeTestRule implements Rule {
+
+    @Override
+    public boolean matches(FieldDescriptor targetField, Map<String, Object> context) {
+        return appliesTo(targetField) && context.containsKey("name");
+    }
+
+    @Override
+    public boolean appliesTo(FieldDescriptor targetField) {
+        return targetField.name().equals("referenceCode");
+    }
+
+    @Override
+    public Object generate(FieldDescriptor targetField, Map<String, Object> context) {
+        return "REF-" + context.get("name");
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.victoriasemkina.validated.rule;
+
+import io.github.victoriasemkina.validated.core.GenerationContext;
+import io.github.victoriasemkina.validated.model.FieldDescriptor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RuleEngineTest {
+
+    private static final FieldDescriptor NAME = field("firstName");
+    private static final FieldDescriptor TITLE = field("title");
+    private static final FieldDescriptor EMAIL = field("workEmail");
+
+    @Test
+    void shouldKeepOnlyApplicableRulesPerField() {
+        CompiledRules compiled = new RuleEngine().compile(List.of(NAME, TITLE, EMAIL));
+
+        Assertions.assertFalse(compiled.hasCandidates(0));
+        Assertions.assertFalse(compiled.hasCandidates(1), "EmailFromNameRule не относится к полю title");
+        Assertions.assertTrue(compiled.hasCandidates(2));
+        Assertions.assertArrayEquals(new int[]{0}, compiled.candidates(2).get(0).inputSlots());
+    }
+
+    @Test
+    void shouldDropRulesWhoseInputsAreGeneratedLater() {
+        CompiledRules compiled = new RuleEngine().compile(List.of(EMAIL, NAME));
+
+        Assertions.assertFalse(compiled.hasCandidates(0), "Имя генерируется после email — правило неприменимо");
+    }
+
+    @Test
+    void shouldNotCallMatchesForRulesWithDeclaredInputs() {
+        AtomicInteger matchesCalls = new AtomicInteger();
+        RuleEngine engine = new RuleEngine();
+        engine.registerRule(new Rule() {
+            @Override
+            public boolean matches(FieldDescriptor targetField, Map<String, Object> context) {
+                matchesCalls.incrementAndGet();
+                return appliesTo(targetField) && context.containsKey("firstName");
+            }
+
+            @Override
+            public boolean appliesTo(FieldDescriptor targetField) {
+                return targetField.name().equals("title");
+            }
+
+            @Override
+            public Set<String> inputs() {
+                return Set.of("firstName");
+            }
+
+            @Override
+            public Object generate(FieldDescriptor targetField, Map<String, Object> context) {
+                return "Dr. " + context.get("firstName");
+            }
+        });
+        CompiledRules compiled = engine.compile(List.of(NAME, TITLE, EMAIL));
+
+        Map<String, Object> context = new HashMap<>();
+        context.put("firstName", "Anna");
+        Object title = compiled.apply(1, TITLE, context, GenerationContext.seeded(1L));
+        Object email = compiled.apply(2, EMAIL, context, GenerationContext.seeded(1L));
+
+        Assertions.assertEquals("Dr. Anna", title);
+        Assertions.assertEquals("anna@company.com", email);
+        Assertions.assertEquals(0, matchesCalls.get());
+    }
+
+    @Test
+    void shouldCheckMatchesForRulesWithoutDeclaredInputs() {
+        CompiledRules compiled = new RuleEngine().compile(List.of(field("name"), field("referenceCode")));
+
+        Map<String, Object> context = new HashMap<>();
+        Assertions.assertNull(compiled.apply(1, field("referenceCode"), context, GenerationContext.seeded(1L)),
+                "Без имени в контексте правило из ServiceLoader не срабатывает");
+
+        context.put("name", "Anna");
+        Assertions.assertEquals("REF-Anna",
+                compiled.apply(1, field("referenceCode"), context, GenerationContext.seeded(1L)));
+    }
+
+    @Test
+    void shouldReadNamesFromSlotsOfFieldValues() {
+        CompiledRules compiled = new RuleEngine().compile(
+                List.of(field("surname"), NAME, TITLE, EMAIL));
+        FieldValues values = compiled.newValues();
+        values.set(0, "Doe");
+        values.set(1, "John");
+
+        Assertions.assertEquals("john.doe@company.com",
+                compiled.apply(3, EMAIL, values, GenerationContext.seeded(1L)));
+
+        Map<String, Object> context = new HashMap<>();
+        context.put("surname", "Smith");
+        Assertions.assertEquals("smith@company.com",
+                compiled.apply(3, EMAIL, context, GenerationContext.seeded(1L)),
+                "Контекст другой разметки читается по именам");
+    }
+
+    private static FieldDescriptor field(String name) {
+        return new FieldDescriptor(name, String.class, List.of(), false);
+    }
+
+    @Test
+    void shouldRejectCyclicDependencies() {
+        RuleEngine engine = new RuleEngine();
+        engine.registerRules(copyRule("a", "b"), copyRule("b", "a"));
+
+        IllegalStateException error = Assertions.assertThrows(IllegalStateException.class,
+                () -> engine.order(List.of(field("a"), field("b"), field("c"))));
+        Assertions.assertTrue(error.getMessage().contains("[a, b]"), error.getMessage());
+    }
+
+    private static Rule copyRule(String target, String source) {
+        return new Rule() {
+            @Override
+            public boolean matches(FieldDescriptor targetField, Map<String, Object> context) {
+                return appliesTo(targetField) && context.containsKey(source);
+            }
+
+            @Override
+            public boolean appliesTo(FieldDescriptor targetField) {
+                return targetField.name().equals(target);
+            }
+
+            @Override
+            public Set<String> inputs() {
+                return Set.of(source);
+            }
+
+            @Override
+            public Object generate(FieldDescriptor targetField, Map<String, Object> context) {
+                return context.get(source);
+            }
+        };
+    }
+}
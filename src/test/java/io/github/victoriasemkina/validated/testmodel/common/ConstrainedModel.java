@@ -0,0 +1,56 @@
+package io.github.victoriasemkina.validated.testmodel.common;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Тестовая модель с ограничениями, которые должны выполняться с первой попытки.
+ */
+public class ConstrainedModel {
+
+    @NotNull
+    @Pattern(regexp = "[A-Z]{3}-\\d{4}")
+    private String code;
+
+    // Поле с "email" в имени: шаблон важнее семантики
+    @Pattern(regexp = "[a-z]{5}@test\\.org")
+    @Size(max = 14)
+    private String contactEmail;
+
+    @AssertTrue
+    private boolean accepted;
+
+    @Positive
+    private short quantity;
+
+    @Min(1)
+    @Max(10)
+    private Byte level;
+
+    public ConstrainedModel() {}
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getContactEmail() {
+        return contactEmail;
+    }
+
+    public boolean isAccepted() {
+        return accepted;
+    }
+
+    public short getQuantity() {
+        return quantity;
+    }
+
+    public Byte getLevel() {
+        return level;
+    }
+}
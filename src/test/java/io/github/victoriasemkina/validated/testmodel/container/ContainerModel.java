@@ -0,0 +1,108 @@
+package io.github.victoriasemkina.validated.testmodel.container;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Тестовая модель с коллекциями, таблицами и массивами, в том числе
+ * с ограничениями на элементы.
+ */
+public class ContainerModel {
+
+    @NotNull
+    @Size(min = 2, max = 4)
+    private List<@NotNull @Email String> emails;
+
+    @NotEmpty
+    private List<@NotNull @Email String> contacts;
+
+    @NotEmpty
+    private Set<@Positive Integer> codes;
+
+    @Size(max = 3)
+    private Map<@NotBlank String, @NotNull @Min(1) @Max(9) Integer> scores;
+
+    @NotNull
+    private List<List<@Pattern(regexp = "[a-z]{3}") String>> matrix;
+
+    @NotEmpty
+    private List<@NotNull @Valid Line> lines;
+
+    @Size(min = 1000, max = 1000)
+    private long[] readings;
+
+    private int[] counts;
+
+    @NotEmpty
+    private String[] tags;
+
+    public ContainerModel() {}
+
+    public List<String> getEmails() {
+        return emails;
+    }
+
+    public List<String> getContacts() {
+        return contacts;
+    }
+
+    public Set<Integer> getCodes() {
+        return codes;
+    }
+
+    public Map<String, Integer> getScores() {
+        return scores;
+    }
+
+    public List<List<String>> getMatrix() {
+        return matrix;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public long[] getReadings() {
+        return readings;
+    }
+
+    public int[] getCounts() {
+        return counts;
+    }
+
+    public String[] getTags() {
+        return tags;
+    }
+
+    public static class Line {
+
+        @NotBlank
+        private String sku;
+
+        @Min(1)
+        @Max(20)
+        private int quantity;
+
+        public Line() {}
+
+        public String getSku() {
+            return sku;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.victoriasemkina.validated.testmodel.immutable;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Тестовая запись с ограничениями на компонентах и вложенной записью.
+ */
+public record PersonRecord(
+        @NotBlank @Size(max = 30) String name,
+        @NotNull @Email String email,
+        @Min(18) @Max(99) int age,
+        @NotNull @Valid Address address
+) {
+
+    public record Address(
+            @NotBlank String street,
+            @NotNull @Pattern(regexp = "\\d{6}") String postalCode
+    ) {
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.victoriasemkina.validated.testmodel.nested;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+/**
+ * Тестовый агрегат глубиной пять уровней: заказ → покупатель → адрес → город → регион.
+ * Адрес доставки и адрес покупателя — один и тот же класс.
+ */
+public class OrderModel {
+
+    @NotNull
+    @Pattern(regexp = "ORD-\\d{6}")
+    private String number;
+
+    @NotNull
+    @Positive
+    private BigDecimal total;
+
+    @NotNull
+    @Valid
+    private Customer customer;
+
+    @NotNull
+    @Valid
+    private Address shippingAddress;
+
+    public OrderModel() {}
+
+    public String getNumber() {
+        return number;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public Address getShippingAddress() {
+        return shippingAddress;
+    }
+
+    public static class Customer {
+
+        @NotBlank
+        @Size(max = 40)
+        private String name;
+
+        @NotNull
+        @Email
+        private String email;
+
+        @NotNull
+        @Valid
+        private Address address;
+
+        public Customer() {}
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    public static class Address {
+
+        @NotBlank
+        private String street;
+
+        @Min(1)
+        @Max(500)
+        private int house;
+
+        @NotNull
+        @Valid
+        private City city;
+
+        public Address() {}
+
+        public String getStreet() {
+            return street;
+        }
+
+        public int getHouse() {
+            return house;
+        }
+
+        public City getCity() {
+            return city;
+        }
+    }
+
+    public static class City {
+
+        @NotNull
+        @Size(min = 2, max = 30)
+        private String name;
+
+        @NotNull
+        @Valid
+        private Region region;
+
+        public City() {}
+
+        public String getName() {
+            return name;
+        }
+
+        public Region getRegion() {
+            return region;
+        }
+    }
+
+    public static class Region {
+
+        @NotNull
+        @Pattern(regexp = "[A-Z]{2}")
+        private String code;
+
+        public Region() {}
+
+        public String getCode() {
+            return code;
+        }
+    }
+}
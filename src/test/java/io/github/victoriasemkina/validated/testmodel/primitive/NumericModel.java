@@ -0,0 +1,68 @@
+package io.github.victoriasemkina.validated.testmodel.primitive;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Negative;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Тестовая модель для проверки числовых ограничений на примитивах и обёртках.
+ */
+public class NumericModel {
+
+    @Min(18)
+    @Max(65)
+    private int age;
+
+    @Positive
+    private long id;
+
+    @Negative
+    private int offset;
+
+    // Только отрицательная верхняя граница
+    @Max(-1000)
+    private long debt;
+
+    @DecimalMin(value = "0.1", inclusive = false)
+    @DecimalMax("0.2")
+    private double ratio;
+
+    @PositiveOrZero
+    private Integer score;
+
+    private boolean active;
+
+    public NumericModel() {}
+
+    public int getAge() {
+        return age;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public long getDebt() {
+        return debt;
+    }
+
+    public double getRatio() {
+        return ratio;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+}